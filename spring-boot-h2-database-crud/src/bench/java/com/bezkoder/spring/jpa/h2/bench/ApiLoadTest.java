@@ -0,0 +1,314 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bezkoder.spring.jpa.h2.SpringBootJpaH2Application;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the {@code /api/tutorials} endpoints with a weighted mix of reads, searches and writes and reports
+ * throughput, latency percentiles and error rate per operation as JSON, to size capacity and to compare
+ * releases.
+ *
+ * <p>By default the application is started in this JVM on a random port with the given profiles and seeded
+ * with {@code --rows} tutorials through the bulk endpoint; {@code --base-url} points the driver at an instance
+ * that is already running (and seeded) instead. Operations and their default weights:
+ * <ul>
+ * <li>{@code get} (40): one tutorial by id</li>
+ * <li>{@code list} (15): the first page of 20 tutorials</li>
+ * <li>{@code search} (15): a title search for a random topic</li>
+ * <li>{@code published} (10): the published view, which fills up as updates publish tutorials (creates are
+ * never published)</li>
+ * <li>{@code stats} (5): the statistics</li>
+ * <li>{@code create} (10): a new tutorial</li>
+ * <li>{@code update} (5): replaces a seeded tutorial</li>
+ * </ul>
+ *
+ * <p>Without {@code --rate} every client sends its next request as soon as the previous one has been answered
+ * (a closed model: throughput is what the server sustains). With {@code --rate} requests are scheduled at that
+ * total rate and latency is measured from the scheduled time, so a server that falls behind shows it in the
+ * percentiles instead of quietly receiving fewer requests.
+ *
+ * <pre>
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.bezkoder.spring.jpa.h2.bench.ApiLoadTest \
+ *     -Dbench.args="--rows=10000 --clients=32 --seconds=30 --mix=get:60,search:20,create:20 --output=load.json"
+ * </pre>
+ */
+public class ApiLoadTest {
+
+  private static final String[] TOPICS = { "Spring", "Java", "Kotlin", "Hibernate", "Docker", "Vue", "React",
+          "Angular", "Flyway", "Reactor" };
+  private static final String DEFAULT_MIX = "get:40,list:15,search:15,published:10,stats:5,create:10,update:5";
+  private static final int SEED_CHUNK = 1000;
+
+  private enum Operation {
+    GET, LIST, SEARCH, PUBLISHED, STATS, CREATE, UPDATE;
+
+    String key() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = BenchSupport.parse(args);
+    int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+    int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+    int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+    int rows = Integer.parseInt(options.getOrDefault("rows", "10000"));
+    double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+    String profiles = options.getOrDefault("profiles", "in-memory");
+    Map<Operation, Integer> mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+
+    ConfigurableApplicationContext context = null;
+    try {
+      String baseUrl = options.get("base-url");
+      if (baseUrl == null) {
+        context = start(profiles);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+      }
+
+      HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+              .connectTimeout(Duration.ofSeconds(10)).build();
+      long[] ids = context != null ? seed(http, baseUrl, rows) : existingIds(http, baseUrl);
+      if (ids.length == 0) {
+        throw new IllegalStateException("No tutorials to read at " + baseUrl);
+      }
+
+      System.err.printf("clients=%d seconds=%d rows=%d rate=%s mix=%s%n", clients, seconds, ids.length,
+              rate > 0 ? rate : "unlimited", mix);
+      run(http, baseUrl, ids, mix, clients, warmupSeconds, rate);
+      Map<Operation, LatencyRecorder> results = run(http, baseUrl, ids, mix, clients, seconds, rate);
+
+      Map<String, Object> report = new LinkedHashMap<>();
+      report.put("timestamp", Instant.now().toString());
+      report.put("baseUrl", baseUrl);
+      report.put("profiles", context != null ? profiles : null);
+      report.put("clients", clients);
+      report.put("seconds", seconds);
+      report.put("rows", ids.length);
+      report.put("rate", rate > 0 ? rate : null);
+      Map<String, Integer> weights = new LinkedHashMap<>();
+      mix.forEach((operation, weight) -> weights.put(operation.key(), weight));
+      report.put("mix", weights);
+      LatencyRecorder total = new LatencyRecorder();
+      Map<String, Object> operations = new LinkedHashMap<>();
+      for (Map.Entry<Operation, LatencyRecorder> result : results.entrySet()) {
+        total.add(result.getValue());
+        operations.put(result.getKey().key(), metrics(result.getValue(), seconds));
+        System.err.printf("%-10s %s%n", result.getKey().key(), result.getValue().summary(seconds));
+      }
+      report.put("total", metrics(total, seconds));
+      report.put("operations", operations);
+
+      String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+      if (options.containsKey("output")) {
+        Files.writeString(Path.of(options.get("output")), json);
+        System.err.println("Wrote " + options.get("output"));
+      } else {
+        System.out.println(json);
+      }
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+    }
+  }
+
+  private static ConfigurableApplicationContext start(String profiles) {
+    // Passed as arguments so they take precedence over application.properties and the profiles.
+    return new SpringApplicationBuilder(SpringBootJpaH2Application.class)
+            .profiles(profiles.split(","))
+            .run("--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+                    "--spring.h2.console.enabled=false",
+                    "--logging.level.root=warn",
+                    "--logging.level.com.bezkoder.spring.jpa.h2=warn");
+  }
+
+  private static long[] seed(HttpClient http, String baseUrl, int rows) throws IOException, InterruptedException {
+    long[] ids = new long[rows];
+    int created = 0;
+    while (created < rows) {
+      List<Map<String, Object>> chunk = new ArrayList<>();
+      for (int i = created; i < Math.min(rows, created + SEED_CHUNK); i++) {
+        chunk.add(Map.of("title", TOPICS[i % TOPICS.length] + " tutorial " + i,
+                "description", "Load test tutorial " + i));
+      }
+      HttpResponse<String> response = http.send(json(baseUrl + "/api/tutorials/bulk", "POST", chunk),
+              HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() >= 400) {
+        throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+      }
+      for (JsonNode result : objectMapper.readTree(response.body())) {
+        // A failed chunk comes back as 200 with FAILED items and no ids, which get and update would turn into 404s.
+        if (!"CREATED".equals(result.path("status").asText())) {
+          throw new IllegalStateException("Seeding failed for item " + created + ": " + result);
+        }
+        ids[created++] = result.get("id").asLong();
+      }
+    }
+    return ids;
+  }
+
+  private static long[] existingIds(HttpClient http, String baseUrl) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tutorials?fields=id")).build();
+    HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() == 204) {
+      return new long[0];
+    }
+    JsonNode tutorials = objectMapper.readTree(response.body());
+    long[] ids = new long[tutorials.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = tutorials.get(i).get("id").asLong();
+    }
+    return ids;
+  }
+
+  private static Map<Operation, LatencyRecorder> run(HttpClient http, String baseUrl, long[] ids,
+          Map<Operation, Integer> mix, int clients, int seconds, double rate) throws InterruptedException {
+    Operation[] operations = mix.keySet().toArray(Operation[]::new);
+    int[] cumulativeWeights = new int[operations.length];
+    int weights = 0;
+    for (int i = 0; i < operations.length; i++) {
+      weights += mix.get(operations[i]);
+      cumulativeWeights[i] = weights;
+    }
+    int totalWeight = weights;
+
+    long start = System.nanoTime();
+    long deadline = start + Duration.ofSeconds(seconds).toNanos();
+    long intervalNanos = rate > 0 ? (long) (clients * 1e9 / rate) : 0;
+
+    List<Map<Operation, LatencyRecorder>> perClient = new ArrayList<>(clients);
+    List<Thread> threads = new ArrayList<>(clients);
+    for (int c = 0; c < clients; c++) {
+      Map<Operation, LatencyRecorder> results = new EnumMap<>(Operation.class);
+      for (Operation operation : operations) {
+        results.put(operation, new LatencyRecorder());
+      }
+      perClient.add(results);
+      // Clients are staggered so that a fixed rate is spread evenly over the interval.
+      long firstRequest = start + intervalNanos * c / clients;
+      threads.add(Thread.ofVirtual().start(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long scheduled = firstRequest; scheduled < deadline; scheduled += intervalNanos) {
+          if (intervalNanos > 0) {
+            LockSupport.parkNanos(scheduled - System.nanoTime());
+          } else {
+            scheduled = System.nanoTime();
+          }
+
+          int pick = random.nextInt(totalWeight);
+          int index = 0;
+          while (cumulativeWeights[index] <= pick) {
+            index++;
+          }
+          Operation operation = operations[index];
+          try {
+            HttpResponse<byte[]> response = http.send(request(operation, baseUrl, ids, random),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            results.get(operation).record(System.nanoTime() - scheduled, response.statusCode() < 400);
+          } catch (InterruptedException e) {
+            return;
+          } catch (Exception e) {
+            results.get(operation).record(System.nanoTime() - scheduled, false);
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+    for (Map<Operation, LatencyRecorder> results : perClient) {
+      results.forEach((operation, recorder) -> merged.computeIfAbsent(operation, o -> new LatencyRecorder())
+              .add(recorder));
+    }
+    return merged;
+  }
+
+  private static HttpRequest request(Operation operation, String baseUrl, long[] ids, ThreadLocalRandom random)
+          throws IOException {
+    String tutorials = baseUrl + "/api/tutorials";
+    long id = ids[random.nextInt(ids.length)];
+    String topic = TOPICS[random.nextInt(TOPICS.length)];
+    return switch (operation) {
+      case GET -> get(tutorials + "/" + id);
+      case LIST -> get(tutorials + "?limit=20");
+      case SEARCH -> get(tutorials + "?title=" + topic);
+      case PUBLISHED -> get(tutorials + "/published");
+      case STATS -> get(tutorials + "/stats");
+      case CREATE -> json(tutorials, "POST", Map.of("title", topic + " tutorial " + random.nextInt(1_000_000),
+              "description", "Created by the load test"));
+      case UPDATE -> json(tutorials + "/" + id, "PUT", Map.of("title", topic + " tutorial " + id,
+              "description", "Updated by the load test", "published", random.nextBoolean()));
+    };
+  }
+
+  private static HttpRequest get(String url) {
+    return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).build();
+  }
+
+  private static HttpRequest json(String url, String method, Object body) throws IOException {
+    return HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(60))
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+  }
+
+  private static Map<String, Object> metrics(LatencyRecorder recorder, int seconds) {
+    int requests = recorder.count() + recorder.errors();
+    double[] percentiles = recorder.percentilesMillis(0.50, 0.99, 0.999, 1.0);
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    metrics.put("requests", requests);
+    metrics.put("errors", recorder.errors());
+    metrics.put("errorRate", requests == 0 ? 0.0 : (double) recorder.errors() / requests);
+    metrics.put("throughput", (double) recorder.count() / seconds);
+    metrics.put("p50Ms", percentiles[0]);
+    metrics.put("p99Ms", percentiles[1]);
+    metrics.put("p999Ms", percentiles[2]);
+    metrics.put("maxMs", percentiles[3]);
+    return metrics;
+  }
+
+  private static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split(":");
+      Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+      int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+      if (weight > 0) {
+        weights.put(operation, weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Empty mix: " + mix);
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,37 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helpers shared by the benchmark and load-test entry points.
+ */
+final class BenchSupport {
+
+  private BenchSupport() {
+  }
+
+  /**
+   * Reads {@code --name=value} arguments into a map keyed by name; anything else is ignored.
+   */
+  static Map<String, String> parse(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+      }
+    }
+    return options;
+  }
+
+  /**
+   * A port nothing listens on right now, for a server started in a child process.
+   */
+  static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.bezkoder.spring.jpa.h2.SpringBootJpaH2Application;
+import com.bezkoder.spring.jpa.h2.controller.TutorialController;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+
+/**
+ * Time spent in {@link TutorialController} handlers under three logging setups, all writing to a file so the
+ * benchmark output stays readable:
+ * <ul>
+ * <li>{@code legacy}: synchronous appender, {@code %L} location in the pattern, application loggers at trace
+ * (what the old configuration effectively ran with)</li>
+ * <li>{@code async}: async loggers on the disruptor, no location, still at trace</li>
+ * <li>{@code production}: async loggers, no location, application loggers at info</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbench test-compile exec:exec -Dbench.main=org.openjdk.jmh.Main -Dbench.args="ControllerLoggingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ControllerLoggingBenchmark {
+
+  private static final int ROWS = 1000;
+
+  @Param({ "legacy", "async", "production" })
+  String logging;
+
+  private ConfigurableApplicationContext context;
+  private TutorialController tutorialController;
+  private Path directory;
+
+  @Setup(Level.Trial)
+  public void start() throws IOException {
+    directory = Files.createTempDirectory("logging-bench");
+    boolean legacy = logging.equals("legacy");
+    Path config = Files.writeString(directory.resolve("log4j2.xml"), configuration(legacy, directory.resolve("app.log")));
+
+    String level = logging.equals("production") ? "info" : "trace";
+
+    // The rows go in before the measured context starts, so its views load them like after a restart; the
+    // first context only lets Flyway create the schema. DB_CLOSE_DELAY keeps the database between the two.
+    try (ConfigurableApplicationContext schema = start(config, level)) {
+      schema.getBean(JdbcTemplate.class).update("insert into tutorials (id, title, description, published, version) "
+              + "select x, 'Tutorial ' || x, 'Description of tutorial ' || x, mod(x, 2) = 0, 0 "
+              + "from system_range(1, ?)", ROWS);
+    }
+    context = start(config, level);
+    tutorialController = context.getBean(TutorialController.class);
+    if (findByPublished().getStatusCode() != HttpStatus.OK) {
+      throw new IllegalStateException("The published view did not load the seeded tutorials");
+    }
+  }
+
+  private ConfigurableApplicationContext start(Path config, String level) {
+    // A servlet application, since TutorialController is only registered in one; the port is never used.
+    return new SpringApplicationBuilder(SpringBootJpaH2Application.class)
+            .run("--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:bench-logging;DB_CLOSE_DELAY=-1",
+                    "--logging.config=" + config.toUri(),
+                    "--logging.level.com.bezkoder.spring.jpa.h2=" + level);
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() throws IOException {
+    context.close();
+    try (var files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  @Benchmark
+  public ResponseEntity<Tutorial> getTutorialById() {
+    return tutorialController.getTutorialById(ThreadLocalRandom.current().nextLong(1, ROWS + 1),
+            new ServletWebRequest(new MockHttpServletRequest()));
+  }
+
+  @Benchmark
+  public ResponseEntity<byte[]> findByPublished() {
+    return tutorialController.findByPublished(null, new ServletWebRequest(new MockHttpServletRequest()));
+  }
+
+  private static String configuration(boolean legacy, Path file) {
+    String appender = legacy
+            ? "<File name=\"File\" fileName=\"" + file + "\">"
+                    + "<PatternLayout pattern=\"%d{yyyy-MM-dd HH:mm:ss} %-5p %c{1}:%L - %m%n\"/></File>"
+            : "<RandomAccessFile name=\"File\" fileName=\"" + file + "\" immediateFlush=\"false\">"
+                    + "<PatternLayout pattern=\"%d{yyyy-MM-dd HH:mm:ss.SSS} %-5p [%t] %c{1.} - %m%n\"/></RandomAccessFile>";
+    String root = legacy
+            ? "<Root level=\"info\"><AppenderRef ref=\"File\"/></Root>"
+            : "<AsyncRoot level=\"info\" includeLocation=\"false\"><AppenderRef ref=\"File\"/></AsyncRoot>";
+    return "<Configuration status=\"warn\"><Appenders>" + appender + "</Appenders><Loggers>" + root
+            + "</Loggers></Configuration>";
+  }
+}
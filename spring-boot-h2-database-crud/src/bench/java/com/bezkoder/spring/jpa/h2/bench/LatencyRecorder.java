@@ -0,0 +1,68 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.util.Arrays;
+
+/**
+ * Collects request latencies for one endpoint of a load test. Not thread-safe: give each client its own
+ * recorder and {@link #add merge} them once the clients have finished.
+ */
+final class LatencyRecorder {
+  private long[] latencies = new long[1024];
+  private int count;
+  private int errors;
+
+  void record(long nanos, boolean ok) {
+    if (!ok) {
+      errors++;
+      return;
+    }
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = nanos;
+  }
+
+  void add(LatencyRecorder other) {
+    for (int i = 0; i < other.count; i++) {
+      record(other.latencies[i], true);
+    }
+    errors += other.errors;
+  }
+
+  int count() {
+    return count;
+  }
+
+  int errors() {
+    return errors;
+  }
+
+  /**
+   * @return the latency at each of the given percentiles (0.5 for the median, 1.0 for the maximum), in
+   *         milliseconds
+   */
+  double[] percentilesMillis(double... percentiles) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    double[] millis = new double[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      millis[i] = millis(sorted, percentiles[i]);
+    }
+    return millis;
+  }
+
+  String summary(int seconds) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    return String.format("%8.1f req/s  p50 %7.1f ms  p99 %7.1f ms  max %7.1f ms  errors %d",
+            (double) count / seconds, millis(sorted, 0.50), millis(sorted, 0.99),
+            count == 0 ? 0.0 : sorted[count - 1] / 1e6, errors);
+  }
+
+  private static double millis(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0.0;
+    }
+    return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+  }
+}
@@ -0,0 +1,25 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Adds a fixed delay to every SQL statement Hibernate prepares, to make the in-memory benchmark database
+ * behave like a remote one. Repository calls run in a transaction, so the delay is spent holding a pooled
+ * connection, the way a slow query would.
+ */
+public class SlowStatementInspector implements StatementInspector {
+
+  static volatile long delayMillis;
+
+  @Override
+  public String inspect(String sql) {
+    if (delayMillis > 0) {
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return sql;
+  }
+}
@@ -0,0 +1,255 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.util.FileSystemUtils;
+
+import com.bezkoder.spring.jpa.h2.SpringBootJpaH2Application;
+
+/**
+ * Startup time and memory of the packaged application in each of the ways it can be started:
+ * <ul>
+ * <li>{@code jar}: {@code java -jar} on the fat jar, all beans created at startup</li>
+ * <li>{@code fast-start}: the same with the {@code fast-start} profile (lazy beans, Hibernate booted in the
+ * background)</li>
+ * <li>{@code cds}: unpacked as in the Dockerfile and started with a class data sharing archive from a training
+ * run, plus {@code fast-start}</li>
+ * <li>{@code aot-cds}: the same with the AOT-generated bean definitions; needs a jar built with
+ * {@code mvn -Paot package}</li>
+ * <li>{@code native}: a GraalVM executable from {@code mvn -Pnative native:compile}, when given with
+ * {@code --native}</li>
+ * </ul>
+ *
+ * <p>Every run is a restart against the same database file. It reports the time from launching the process
+ * until {@code /actuator/health} answers, the latency of the first {@code GET /api/tutorials} (where lazy
+ * initialization pays what it skipped at startup) and the resident set size once ready. Each value is the median
+ * over the runs.
+ *
+ * <pre>
+ * mvn -Paot package -DskipTests
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.bezkoder.spring.jpa.h2.bench.StartupBenchmark \
+ *     -Dbench.args="--jar=target/spring-boot-jpa-h2-0.0.1-SNAPSHOT.jar --runs=5"
+ * </pre>
+ */
+public class StartupBenchmark {
+
+  private static final String MAIN_CLASS = SpringBootJpaH2Application.class.getName();
+  private static final String AOT_INITIALIZER = "BOOT-INF/classes/"
+          + MAIN_CLASS.replace('.', '/') + "__ApplicationContextInitializer.class";
+
+  private record Mode(String name, List<String> command) {
+  }
+
+  private record Run(long startupMillis, long firstRequestMillis, long rssKilobytes) {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = BenchSupport.parse(args);
+    Path jar = Path.of(options.getOrDefault("jar", "target/spring-boot-jpa-h2-0.0.1-SNAPSHOT.jar"));
+    int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+    int rows = Integer.parseInt(options.getOrDefault("rows", "1000"));
+    if (!Files.exists(jar)) {
+      throw new IllegalArgumentException(jar + " not found, run mvn package (or mvn -Paot package) first");
+    }
+
+    Path directory = Files.createTempDirectory("startup-bench");
+    try {
+      Path database = directory.resolve("tutorials");
+      List<Mode> modes = modes(jar, directory, options.get("native"));
+      // Lets Flyway create the schema, so that every measured run is a plain restart.
+      measure(modes.get(0), database, directory.resolve("prime.log"));
+      seed(database, rows);
+
+      System.out.printf("runs=%d rows=%d%n", runs, rows);
+      System.out.printf("%-12s %12s %18s %10s%n", "mode", "startup ms", "first request ms", "RSS MB");
+      for (Mode mode : modes) {
+        List<Run> results = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+          results.add(measure(mode, database, directory.resolve(mode.name() + ".log")));
+        }
+        System.out.printf("%-12s %12d %18d %10d%n", mode.name(),
+                median(results.stream().mapToLong(Run::startupMillis).toArray()),
+                median(results.stream().mapToLong(Run::firstRequestMillis).toArray()),
+                median(results.stream().mapToLong(Run::rssKilobytes).toArray()) / 1024);
+      }
+    } finally {
+      FileSystemUtils.deleteRecursively(directory);
+    }
+  }
+
+  private static List<Mode> modes(Path jar, Path directory, String nativeExecutable)
+          throws IOException, InterruptedException {
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    List<Mode> modes = new ArrayList<>();
+    modes.add(new Mode("jar", List.of(java, "-jar", jar.toString())));
+    modes.add(new Mode("fast-start", List.of(java, "-jar", jar.toString(), "--spring.profiles.active=fast-start")));
+
+    String classPath = unpack(jar, directory.resolve("app"));
+    modes.add(new Mode("cds", cds(java, classPath, directory.resolve("app.jsa"), false)));
+    if (isAotProcessed(jar)) {
+      modes.add(new Mode("aot-cds", cds(java, classPath, directory.resolve("app-aot.jsa"), true)));
+    } else {
+      System.out.println(jar + " was not built with -Paot, skipping aot-cds");
+    }
+
+    if (nativeExecutable != null) {
+      modes.add(new Mode("native", List.of(nativeExecutable, "--spring.profiles.active=fast-start")));
+    }
+    return modes;
+  }
+
+  /**
+   * Creates the archive the way the Dockerfile does and returns the command that starts the application with it.
+   */
+  private static List<String> cds(String java, String classPath, Path archive, boolean aot)
+          throws IOException, InterruptedException {
+    List<String> jvm = List.of(java, "-cp", classPath, "-Dspring.aot.enabled=" + aot);
+    List<String> training = new ArrayList<>(jvm);
+    training.addAll(List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh", MAIN_CLASS,
+            "--spring.profiles.active=fast-start", "--spring.main.lazy-initialization=false",
+            "--spring.datasource.url=jdbc:h2:mem:training", "--logging.level.root=warn"));
+    Path log = archive.resolveSibling(archive.getFileName() + ".log");
+    int exit = new ProcessBuilder(training).redirectErrorStream(true).redirectOutput(log.toFile()).start().waitFor();
+    if (exit != 0 || !Files.exists(archive)) {
+      throw new IllegalStateException("Training run failed, see " + log);
+    }
+
+    List<String> command = new ArrayList<>(jvm);
+    command.addAll(List.of("-XX:SharedArchiveFile=" + archive, MAIN_CLASS, "--spring.profiles.active=fast-start"));
+    return command;
+  }
+
+  private static Run measure(Mode mode, Path database, Path log) throws IOException, InterruptedException {
+    int port = BenchSupport.freePort();
+    List<String> command = new ArrayList<>(mode.command());
+    command.addAll(List.of("--server.port=" + port,
+            "--tutorials.h2.file=" + database,
+            "--logging.level.root=warn",
+            "--logging.level.com.bezkoder.spring.jpa.h2=warn"));
+
+    long start = System.nanoTime();
+    Process server = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+    try {
+      HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+      awaitReady(http, "http://localhost:" + port, server, log);
+      long startup = System.nanoTime() - start;
+      long rss = rss(server.pid());
+
+      start = System.nanoTime();
+      HttpRequest list = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tutorials?limit=20"))
+              .timeout(Duration.ofSeconds(60)).build();
+      int status = http.send(list, HttpResponse.BodyHandlers.discarding()).statusCode();
+      long firstRequest = System.nanoTime() - start;
+      if (status >= 400) {
+        throw new IllegalStateException(mode.name() + ": GET /api/tutorials answered " + status + ", see " + log);
+      }
+      return new Run(startup / 1_000_000, firstRequest / 1_000_000, rss);
+    } finally {
+      // A graceful stop, so H2 closes the database file cleanly for the next run.
+      server.destroy();
+      server.waitFor();
+    }
+  }
+
+  private static void awaitReady(HttpClient http, String baseUrl, Process server, Path log)
+          throws InterruptedException {
+    HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+    long deadline = System.nanoTime() + Duration.ofSeconds(180).toNanos();
+    while (System.nanoTime() < deadline && server.isAlive()) {
+      try {
+        if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(20);
+    }
+    throw new IllegalStateException("Server did not start, see " + log);
+  }
+
+  /**
+   * Unpacks the fat jar into plain jars, the application classes included (CDS does not archive classes loaded
+   * from directories), and returns them as a sorted class path.
+   */
+  private static String unpack(Path jar, Path target) throws IOException {
+    Path lib = Files.createDirectories(target.resolve("lib"));
+    try (JarFile fatJar = new JarFile(jar.toFile());
+         JarOutputStream application = new JarOutputStream(Files.newOutputStream(lib.resolve("application.jar")))) {
+      for (JarEntry entry : fatJar.stream().toList()) {
+        String name = entry.getName();
+        if (name.startsWith("BOOT-INF/lib/") && !entry.isDirectory()) {
+          try (InputStream in = fatJar.getInputStream(entry)) {
+            Files.copy(in, lib.resolve(name.substring("BOOT-INF/lib/".length())));
+          }
+        } else if (name.startsWith("BOOT-INF/classes/") && name.length() > "BOOT-INF/classes/".length()) {
+          application.putNextEntry(new JarEntry(name.substring("BOOT-INF/classes/".length())));
+          try (InputStream in = fatJar.getInputStream(entry)) {
+            in.transferTo(application);
+          }
+          application.closeEntry();
+        }
+      }
+    }
+    try (Stream<Path> jars = Files.list(lib)) {
+      return jars.map(Path::toString).sorted().collect(Collectors.joining(File.pathSeparator));
+    }
+  }
+
+  private static boolean isAotProcessed(Path jar) throws IOException {
+    try (JarFile fatJar = new JarFile(jar.toFile())) {
+      return fatJar.getEntry(AOT_INITIALIZER) != null;
+    }
+  }
+
+  private static void seed(Path database, int rows) throws SQLException {
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + database, "sa", "");
+         PreparedStatement insert = connection.prepareStatement(
+                 "insert into tutorials (id, title, description, published, version) "
+                         + "select x, 'Tutorial ' || x, 'Description of tutorial ' || x, mod(x, 2) = 0, 0 "
+                         + "from system_range(1, ?)")) {
+      insert.setInt(1, rows);
+      insert.executeUpdate();
+    }
+  }
+
+  // Linux only; -1 elsewhere.
+  private static long rss(long pid) {
+    try {
+      return Files.readAllLines(Path.of("/proc", Long.toString(pid), "status")).stream()
+              .filter(line -> line.startsWith("VmRSS:"))
+              .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+              .findFirst().orElse(-1);
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+}
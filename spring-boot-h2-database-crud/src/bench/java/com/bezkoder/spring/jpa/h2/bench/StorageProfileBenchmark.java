@@ -0,0 +1,186 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.FileSystemUtils;
+
+import com.bezkoder.spring.jpa.h2.SpringBootJpaH2Application;
+
+/**
+ * Throughput and durability of the {@code in-memory}, {@code file-durable} and {@code file-throughput}
+ * profiles.
+ *
+ * <p>Each profile runs in its own JVM against a fresh database file. Clients alternate between creating a
+ * tutorial and reading a page of them; then the server is killed (SIGKILL, no shutdown hooks) while writes
+ * are still in flight, and the database file is reopened to count how many of the acknowledged creates
+ * survived.
+ *
+ * <pre>
+ * mvn -Pbench test-compile exec:exec -Dbench.main=com.bezkoder.spring.jpa.h2.bench.StorageProfileBenchmark \
+ *     -Dbench.args="--clients=32 --seconds=20"
+ * </pre>
+ */
+public class StorageProfileBenchmark {
+
+  private static final String[] PROFILES = { "in-memory", "file-durable", "file-throughput" };
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = BenchSupport.parse(args);
+    int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+    int seconds = Integer.parseInt(options.getOrDefault("seconds", "20"));
+    int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+
+    System.out.printf("clients=%d seconds=%d%n", clients, seconds);
+    for (String profile : options.getOrDefault("profiles", String.join(",", PROFILES)).split(",")) {
+      Path directory = Files.createTempDirectory("storage-bench");
+      try {
+        run(profile, directory, clients, warmupSeconds, seconds);
+      } finally {
+        FileSystemUtils.deleteRecursively(directory);
+      }
+    }
+  }
+
+  private static void run(String profile, Path directory, int clients, int warmupSeconds, int seconds)
+          throws Exception {
+    Path database = directory.resolve("tutorials");
+    int port = BenchSupport.freePort();
+    Process server = start(profile, database, port, directory.resolve("server.log"));
+    try {
+      String baseUrl = "http://localhost:" + port;
+      awaitReady(baseUrl, server);
+
+      AtomicLong acknowledged = new AtomicLong();
+      load(baseUrl, clients, warmupSeconds, acknowledged, null);
+      LatencyRecorder[] results = load(baseUrl, clients, seconds, acknowledged, server);
+
+      System.out.printf("%-16s %-7s %s%n", profile, "create", results[0].summary(seconds));
+      System.out.printf("%-16s %-7s %s%n", profile, "list", results[1].summary(seconds));
+      long survived = profile.equals("in-memory") ? 0 : count(database);
+      // Creates committed just before the kill may never have been acknowledged, so survived can exceed it.
+      System.out.printf("%-16s acknowledged creates %d, rows after kill %d, lost %d%n", profile,
+              acknowledged.get(), survived, Math.max(0, acknowledged.get() - survived));
+    } finally {
+      server.destroyForcibly().waitFor();
+    }
+  }
+
+  private static Process start(String profile, Path database, int port, Path log) throws IOException {
+    List<String> command = List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"),
+            SpringBootJpaH2Application.class.getName(),
+            "--spring.profiles.active=" + profile,
+            "--server.port=" + port,
+            "--tutorials.h2.file=" + database,
+            "--spring.h2.console.enabled=false",
+            "--logging.level.root=warn",
+            "--logging.level.com.bezkoder.spring.jpa.h2=warn");
+    return new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+  }
+
+  private static void awaitReady(String baseUrl, Process server) throws InterruptedException {
+    HttpClient http = HttpClient.newHttpClient();
+    HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+    long deadline = System.nanoTime() + Duration.ofSeconds(120).toNanos();
+    while (System.nanoTime() < deadline && server.isAlive()) {
+      try {
+        if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(250);
+    }
+    throw new IllegalStateException("Server did not start, see its log");
+  }
+
+  /**
+   * Runs the clients for the given time. If {@code server} is given it is killed at the deadline, before the
+   * clients are told to stop, so writes are in flight at the moment of the crash.
+   */
+  private static LatencyRecorder[] load(String baseUrl, int clients, int seconds, AtomicLong acknowledged,
+          Process server) throws InterruptedException {
+    HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10)).build();
+    HttpRequest list = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tutorials?limit=20"))
+            .timeout(Duration.ofSeconds(30)).build();
+    long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+    AtomicLong stopAt = new AtomicLong(Long.MAX_VALUE);
+
+    List<LatencyRecorder[]> perClient = new ArrayList<>(clients);
+    List<Thread> threads = new ArrayList<>(clients);
+    for (int c = 0; c < clients; c++) {
+      LatencyRecorder[] results = { new LatencyRecorder(), new LatencyRecorder() };
+      perClient.add(results);
+      int client = c;
+      threads.add(Thread.ofVirtual().start(() -> {
+        for (long i = 0; System.nanoTime() < Math.min(deadline, stopAt.get()); i++) {
+          HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tutorials"))
+                  .header("Content-Type", "application/json")
+                  .timeout(Duration.ofSeconds(30))
+                  .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load " + client + "-" + i
+                          + "\",\"description\":\"Storage profile benchmark\"}"))
+                  .build();
+          long start = System.nanoTime();
+          try {
+            boolean created = http.send(create, HttpResponse.BodyHandlers.discarding()).statusCode() == 201;
+            if (created) {
+              acknowledged.incrementAndGet();
+            }
+            results[0].record(System.nanoTime() - start, created);
+
+            start = System.nanoTime();
+            int status = http.send(list, HttpResponse.BodyHandlers.discarding()).statusCode();
+            results[1].record(System.nanoTime() - start, status < 400);
+          } catch (IOException e) {
+            results[0].record(System.nanoTime() - start, false);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+      }));
+    }
+
+    if (server != null) {
+      Thread.sleep(Math.max(0, (deadline - System.nanoTime()) / 1_000_000));
+      server.destroyForcibly().waitFor();
+      stopAt.set(System.nanoTime());
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    LatencyRecorder[] merged = { new LatencyRecorder(), new LatencyRecorder() };
+    for (LatencyRecorder[] results : perClient) {
+      for (int i = 0; i < merged.length; i++) {
+        merged[i].add(results[i]);
+      }
+    }
+    return merged;
+  }
+
+  private static long count(Path database) throws SQLException {
+    // Opening the file runs H2's recovery, exactly as a restarted server would.
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + database, "sa", "");
+         ResultSet rows = connection.createStatement().executeQuery("select count(*) from tutorials")) {
+      rows.next();
+      return rows.getLong(1);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cost of serializing tutorial lists the way the list endpoints do, with an {@link ObjectMapper} configured
+ * like the one Spring MVC uses.
+ *
+ * <pre>
+ * mvn -Pbench test-compile exec:exec -Dbench.main=org.openjdk.jmh.Main \
+ *     -Dbench.args="TutorialJsonBenchmark -rf json -rff target/jmh-json.json"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TutorialJsonBenchmark {
+
+  @Param({ "100", "1000", "10000" })
+  int size;
+
+  private ObjectMapper objectMapper;
+  private List<Tutorial> tutorials;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    tutorials = new ArrayList<>(size);
+    for (int i = 1; i <= size; i++) {
+      Tutorial tutorial = new Tutorial("Tutorial " + i, "Description of tutorial " + i, i % 2 == 0);
+      ReflectionTestUtils.setField(tutorial, "id", (long) i);
+      tutorials.add(tutorial);
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(tutorials);
+  }
+}
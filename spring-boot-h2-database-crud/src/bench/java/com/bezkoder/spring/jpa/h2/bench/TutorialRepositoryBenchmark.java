@@ -0,0 +1,99 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.bezkoder.spring.jpa.h2.SpringBootJpaH2Application;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+
+/**
+ * Baseline timings for the {@link TutorialRepository} calls behind the REST endpoints, against an in-memory
+ * database of 10k, 100k and 1M tutorials (half of them published). The application context is the real one,
+ * so the second-level and query caches are in play exactly as in production.
+ *
+ * <pre>
+ * mvn -Pbench test-compile exec:exec -Dbench.main=org.openjdk.jmh.Main \
+ *     -Dbench.args="TutorialRepositoryBenchmark -p rows=10000 -rf json -rff target/jmh-repository.json"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TutorialRepositoryBenchmark {
+
+  @Param({ "10000", "100000", "1000000" })
+  int rows;
+
+  private ConfigurableApplicationContext context;
+  private TutorialRepository tutorialRepository;
+
+  @Setup(Level.Trial)
+  public void start() {
+    context = new SpringApplicationBuilder(SpringBootJpaH2Application.class)
+            .run("--spring.main.web-application-type=none",
+                    "--spring.datasource.url=jdbc:h2:mem:bench-repository;DB_CLOSE_DELAY=-1",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=warn",
+                    "--logging.level.com.bezkoder.spring.jpa.h2=warn");
+    tutorialRepository = context.getBean(TutorialRepository.class);
+
+    // Seed in one statement; going through JPA would make a 1M-row trial spend minutes in setup.
+    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+    jdbcTemplate.update("insert into tutorials (id, title, description, published, version) "
+            + "select x, 'Tutorial ' || x, 'Description of tutorial ' || x, mod(x, 2) = 0, 0 "
+            + "from system_range(1, ?)", rows);
+    jdbcTemplate.execute("alter sequence tutorials_seq restart with " + (rows + 1));
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() {
+    context.close();
+  }
+
+  @Benchmark
+  public Tutorial save() {
+    return tutorialRepository.save(new Tutorial("Benchmark tutorial", "Saved by the benchmark", false));
+  }
+
+  @Benchmark
+  public Optional<Tutorial> findById() {
+    return tutorialRepository.findById(ThreadLocalRandom.current().nextLong(1, rows + 1));
+  }
+
+  @Benchmark
+  public List<Tutorial> findByTitleContainingIgnoreCase() {
+    return tutorialRepository.findByTitleContainingIgnoreCase("tutorial " + ThreadLocalRandom.current().nextInt(1, rows + 1));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public List<Tutorial> findByPublished() {
+    return tutorialRepository.findByPublished(true);
+  }
+}
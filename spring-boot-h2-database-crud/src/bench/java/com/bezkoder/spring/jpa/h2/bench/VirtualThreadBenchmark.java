@@ -0,0 +1,123 @@
+package com.bezkoder.spring.jpa.h2.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.bezkoder.spring.jpa.h2.SpringBootJpaH2Application;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+
+/**
+ * Compares request handling on Tomcat's platform-thread pool (the default setup) with the
+ * {@code virtual-threads} profile.
+ *
+ * <p>A burst of clients alternates between a page of tutorials, which runs a query slowed down by
+ * {@link SlowStatementInspector}, and the published view, which is served from memory. Throughput and latency
+ * percentiles are reported per endpoint, so the run shows both whether slow queries finish faster and whether
+ * they hold up the requests that do not need the database.
+ *
+ * <pre>
+ * mvn -Pbench test-compile exec:exec -Dbench.args="--clients=400 --seconds=20 --query-delay-ms=50"
+ * </pre>
+ */
+public class VirtualThreadBenchmark {
+
+  private static final String[] ENDPOINTS = { "/api/tutorials?limit=20", "/api/tutorials/published" };
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = BenchSupport.parse(args);
+    int clients = Integer.parseInt(options.getOrDefault("clients", "400"));
+    int seconds = Integer.parseInt(options.getOrDefault("seconds", "20"));
+    int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+    int rows = Integer.parseInt(options.getOrDefault("rows", "1000"));
+    long queryDelayMillis = Long.parseLong(options.getOrDefault("query-delay-ms", "50"));
+
+    System.out.printf("clients=%d seconds=%d rows=%d query-delay-ms=%d%n", clients, seconds, rows, queryDelayMillis);
+    for (String profile : new String[] { "default", "virtual-threads" }) {
+      try (ConfigurableApplicationContext context = start(profile)) {
+        seed(context.getBean(TutorialRepository.class), rows);
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        SlowStatementInspector.delayMillis = queryDelayMillis;
+        run(baseUrl, clients, warmupSeconds);
+        LatencyRecorder[] results = run(baseUrl, clients, seconds);
+        SlowStatementInspector.delayMillis = 0;
+
+        for (int i = 0; i < ENDPOINTS.length; i++) {
+          System.out.printf("%-16s %-28s %s%n", profile, ENDPOINTS[i], results[i].summary(seconds));
+        }
+      }
+    }
+  }
+
+  private static ConfigurableApplicationContext start(String profile) {
+    // Passed as arguments so they take precedence over application.properties.
+    return new SpringApplicationBuilder(SpringBootJpaH2Application.class)
+            .profiles(profile)
+            .run("--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:bench-" + profile + ";DB_CLOSE_DELAY=-1",
+                    "--spring.jpa.show-sql=false",
+                    "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                            + SlowStatementInspector.class.getName(),
+                    "--spring.h2.console.enabled=false",
+                    "--logging.level.root=warn",
+                    "--logging.level.com.bezkoder.spring.jpa.h2=warn");
+  }
+
+  private static void seed(TutorialRepository tutorialRepository, int rows) {
+    List<Tutorial> tutorials = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      tutorials.add(new Tutorial("Tutorial " + i, "Benchmark tutorial " + i, i % 2 == 0));
+    }
+    tutorialRepository.saveAll(tutorials);
+  }
+
+  private static LatencyRecorder[] run(String baseUrl, int clients, int seconds) throws InterruptedException {
+    HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10)).build();
+    long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+    List<LatencyRecorder[]> perClient = new ArrayList<>(clients);
+    List<Thread> threads = new ArrayList<>(clients);
+    for (int c = 0; c < clients; c++) {
+      LatencyRecorder[] results = { new LatencyRecorder(), new LatencyRecorder() };
+      perClient.add(results);
+      threads.add(Thread.ofVirtual().start(() -> {
+        int endpoint = ThreadLocalRandom.current().nextInt(ENDPOINTS.length);
+        while (System.nanoTime() < deadline) {
+          HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + ENDPOINTS[endpoint]))
+                  .timeout(Duration.ofSeconds(60)).build();
+          long start = System.nanoTime();
+          try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            results[endpoint].record(System.nanoTime() - start, response.statusCode() < 400);
+          } catch (Exception e) {
+            results[endpoint].record(System.nanoTime() - start, false);
+          }
+          endpoint = (endpoint + 1) % ENDPOINTS.length;
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    LatencyRecorder[] merged = { new LatencyRecorder(), new LatencyRecorder() };
+    for (LatencyRecorder[] results : perClient) {
+      for (int i = 0; i < merged.length; i++) {
+        merged[i].add(results[i]);
+      }
+    }
+    return merged;
+  }
+}
@@ -0,0 +1,46 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import net.ttddyy.dsproxy.listener.logging.Log4jLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the pooled {@link DataSource} in a datasource-proxy that counts statements per thread (read per request
+ * by {@link SqlBudgetInterceptor}, and by tests through {@code QueryCountHolder.get(DATA_SOURCE_NAME)}) and logs
+ * slow statements with their bind parameters.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+  public static final String DATA_SOURCE_NAME = "tutorials";
+  // Under the config package, so package-level log levels reach it; its own level can silence slow-query logs.
+  static final String SLOW_QUERY_LOGGER = DataSourceProxyConfig.class.getName() + ".slow";
+
+  @Bean
+  public static BeanPostProcessor dataSourceProxyPostProcessor(
+          @Value("${tutorials.sql.slow-query-threshold:100ms}") Duration slowQueryThreshold) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+          return ProxyDataSourceBuilder.create(DATA_SOURCE_NAME, dataSource)
+                  .countQuery()
+                  .logSlowQueryByLog4j(slowQueryThreshold.toMillis(), TimeUnit.MILLISECONDS, Log4jLogLevel.WARN,
+                          SLOW_QUERY_LOGGER)
+                  .build();
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,18 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bezkoder.spring.jpa.h2.model.TutorialIdGenerator;
+
+@Configuration
+public class IdGenerationConfig {
+
+  // Picked up by Flyway, which runs before the entity manager factory validates the sequence.
+  @Bean
+  public TutorialSequenceUpgrader tutorialSequenceUpgrader(
+          @Value("${tutorials.id.allocation-size:" + TutorialIdGenerator.DEFAULT_ALLOCATION_SIZE + "}") int allocationSize) {
+    return new TutorialSequenceUpgrader(allocationSize);
+  }
+}
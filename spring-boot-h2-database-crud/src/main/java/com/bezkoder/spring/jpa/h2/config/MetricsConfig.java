@@ -0,0 +1,17 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+  // Static and with a lazy registry lookup: post-processors are created before the registry is available.
+  @Bean
+  public static RepositoryResultMetrics repositoryResultMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new RepositoryResultMetrics(meterRegistry);
+  }
+}
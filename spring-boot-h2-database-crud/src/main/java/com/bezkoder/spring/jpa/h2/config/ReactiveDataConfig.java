@@ -0,0 +1,55 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bezkoder.spring.jpa.h2.repository.ReactiveTutorialRepository;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+
+/**
+ * R2DBC access for the reactive API. The pool is opened on {@code spring.datasource.url}, so the R2DBC driver
+ * attaches to the same in-process H2 database, with the same settings, as JPA and Flyway.
+ *
+ * <p>The pool is owned by {@link ReactiveTutorialRepository} rather than registered as a
+ * {@code ConnectionFactory} bean: Boot backs off its JDBC {@code DataSource} as soon as one exists, and JPA,
+ * Flyway and the write path still need it. For the same reason R2DBC auto-configuration is excluded.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDataConfig {
+
+  private static final String H2_URL_PREFIX = "jdbc:h2:";
+
+  @Bean
+  public ReactiveTutorialRepository reactiveTutorialRepository(DataSourceProperties dataSourceProperties,
+          @Value("${tutorials.r2dbc.pool.max-size:16}") int maxSize,
+          @Value("${tutorials.r2dbc.pool.max-acquire-time:5s}") Duration maxAcquireTime) {
+    String url = dataSourceProperties.determineUrl();
+    if (url == null || !url.startsWith(H2_URL_PREFIX)) {
+      throw new IllegalStateException("The reactive API needs an H2 datasource URL, got " + url);
+    }
+
+    H2ConnectionConfiguration configuration = H2ConnectionConfiguration.builder()
+            .url(url.substring(H2_URL_PREFIX.length()))
+            .username(dataSourceProperties.determineUsername())
+            .password(dataSourceProperties.determinePassword())
+            .build();
+    // Connections are acquired without blocking; requests beyond maxSize queue for up to maxAcquireTime.
+    return new ReactiveTutorialRepository(new ConnectionPool(ConnectionPoolConfiguration
+            .builder(new H2ConnectionFactory(configuration))
+            .name("tutorials-r2dbc")
+            .initialSize(0)
+            .maxSize(maxSize)
+            .maxAcquireTime(maxAcquireTime)
+            .build()));
+  }
+}
@@ -0,0 +1,89 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records how many entities each repository method returns, as the {@code tutorials.repository.results}
+ * distribution summary tagged with {@code repository} and {@code method}. Timings and error counts for the same
+ * calls come from Spring Boot's {@code spring.data.repository.invocations} timer.
+ *
+ * <p>Collections, slices, optionals and single entities are measured; streams and scalar results are not.
+ */
+public class RepositoryResultMetrics implements BeanPostProcessor {
+
+  static final String METRIC_NAME = "tutorials.repository.results";
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  public RepositoryResultMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+      factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+              (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new ResultSizeInterceptor(
+                      repositoryInformation.getRepositoryInterface().getSimpleName(),
+                      repositoryInformation.getDomainType()))));
+    }
+    return bean;
+  }
+
+  private final class ResultSizeInterceptor implements MethodInterceptor {
+    private final String repository;
+    private final Class<?> domainType;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    ResultSizeInterceptor(String repository, Class<?> domainType) {
+      this.repository = repository;
+      this.domainType = domainType;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      Object result = invocation.proceed();
+      int size = sizeOf(result);
+      if (size >= 0) {
+        summaries.computeIfAbsent(invocation.getMethod(), method -> DistributionSummary.builder(METRIC_NAME)
+                .description("Entities returned per repository call")
+                .baseUnit("entities")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry.getObject()))
+                .record(size);
+      }
+      return result;
+    }
+
+    private int sizeOf(Object result) {
+      if (result instanceof Collection<?> collection) {
+        return collection.size();
+      }
+      if (result instanceof Slice<?> slice) {
+        return slice.getNumberOfElements();
+      }
+      if (result instanceof Optional<?> optional) {
+        return optional.isPresent() ? 1 : 0;
+      }
+      if (domainType.isInstance(result)) {
+        return 1;
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import java.time.Duration;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * Counts the SQL statements and database time of each request and flags the ones over budget, which is how
+ * N+1 selects and slow paths show up in the logs.
+ *
+ * <p>Counts are kept per thread by the datasource proxy. They are reset when a request starts and left in place
+ * when it ends, so a test driving the controller on its own thread (MockMvc) can read them afterwards.
+ * Statements issued on other threads, such as the body of a streaming export, are not attributed to the request.
+ */
+@Component
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+  private static final Logger logger = LogManager.getLogger(SqlBudgetInterceptor.class);
+
+  @Value("${tutorials.sql.max-statements-per-request:50}")
+  long maxStatements;
+
+  @Value("${tutorials.sql.max-time-per-request:250ms}")
+  Duration maxTime;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    QueryCountHolder.clear();
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+          Object handler) {
+    check(request);
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+          Exception ex) {
+    check(request);
+  }
+
+  private void check(HttpServletRequest request) {
+    QueryCount count = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+    if (count == null) {
+      return;
+    }
+
+    if (count.getTotal() > maxStatements || count.getTime() > maxTime.toMillis()) {
+      logger.warn("{} {} exceeded SQL budget of {} statements / {} ms: {} statements (select {}, insert {}, "
+              + "update {}, delete {}, other {}) in {} ms", request.getMethod(), request.getRequestURI(),
+              maxStatements, maxTime.toMillis(), count.getTotal(), count.getSelect(), count.getInsert(),
+              count.getUpdate(), count.getDelete(), count.getOther(), count.getTime());
+    } else {
+      logger.debug("{} {} issued {} SQL statements in {} ms", request.getMethod(), request.getRequestURI(),
+              count.getTotal(), count.getTime());
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.bezkoder.spring.jpa.h2.model.TutorialIdGenerator;
+
+/**
+ * Aligns {@code tutorials_seq} with the configured id allocation size before Hibernate starts.
+ *
+ * <p>Hibernate refuses to start when the sequence increment differs from the allocation size. Database files
+ * created by older versions use an increment of 50 (the implicit {@code GenerationType.AUTO} mapping), and the
+ * initial migration creates the sequence with the default allocation size. The sequence is also moved past the
+ * highest existing id so the pooled-lo blocks can never hand out an id that is already taken.
+ *
+ * <p>Runs as a repeatable Flyway migration whose checksum is the allocation size, so it is applied after the
+ * versioned migrations and again whenever {@code tutorials.id.allocation-size} changes.
+ */
+public class TutorialSequenceUpgrader implements JavaMigration {
+  private static final Logger logger = LogManager.getLogger(TutorialSequenceUpgrader.class);
+
+  private final int allocationSize;
+
+  public TutorialSequenceUpgrader(int allocationSize) {
+    this.allocationSize = allocationSize;
+  }
+
+  @Override
+  public MigrationVersion getVersion() {
+    return null;
+  }
+
+  @Override
+  public String getDescription() {
+    return "align " + TutorialIdGenerator.SEQUENCE_NAME;
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return allocationSize;
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) {
+    upgrade(new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true)));
+  }
+
+  public void upgrade(JdbcTemplate jdbcTemplate) {
+    List<Map<String, Object>> sequences = jdbcTemplate.queryForList(
+            "SELECT BASE_VALUE, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+            TutorialIdGenerator.SEQUENCE_NAME.toUpperCase(Locale.ROOT));
+    if (sequences.isEmpty()) {
+      logger.debug("No {} sequence yet, nothing to upgrade", TutorialIdGenerator.SEQUENCE_NAME);
+      return;
+    }
+
+    long nextValue = ((Number) sequences.get(0).get("BASE_VALUE")).longValue();
+    long increment = ((Number) sequences.get(0).get("INCREMENT")).longValue();
+    long restartWith = Math.max(nextValue, maxTutorialId(jdbcTemplate) + 1);
+
+    if (increment == allocationSize && restartWith == nextValue) {
+      logger.debug("{} already uses increment {}", TutorialIdGenerator.SEQUENCE_NAME, allocationSize);
+      return;
+    }
+
+    logger.info("Upgrading {}: increment {} -> {}, next value {} -> {}", TutorialIdGenerator.SEQUENCE_NAME,
+            increment, allocationSize, nextValue, restartWith);
+    jdbcTemplate.execute("ALTER SEQUENCE " + TutorialIdGenerator.SEQUENCE_NAME
+            + " RESTART WITH " + restartWith + " INCREMENT BY " + allocationSize);
+  }
+
+  private static long maxTutorialId(JdbcTemplate jdbcTemplate) {
+    Integer tables = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'TUTORIALS'", Integer.class);
+    if (tables == null || tables == 0) {
+      return 0L;
+    }
+    Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tutorials", Long.class);
+    return maxId == null ? 0L : maxId;
+  }
+}
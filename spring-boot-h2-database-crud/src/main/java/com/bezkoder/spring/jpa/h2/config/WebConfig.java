@@ -0,0 +1,18 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+  @Autowired
+  SqlBudgetInterceptor sqlBudgetInterceptor;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(sqlBudgetInterceptor).addPathPatterns("/api/tutorials", "/api/tutorials/**");
+  }
+}
@@ -0,0 +1,180 @@
+package com.bezkoder.spring.jpa.h2.controller;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.ReactiveTutorialRepository;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.bezkoder.spring.jpa.h2.service.TutorialBulkService;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The tutorial API on WebFlux, active instead of {@link TutorialController} when the application runs as a
+ * reactive web application (the {@code reactive} profile).
+ *
+ * <p>Reads go through {@link ReactiveTutorialRepository} and never block an event-loop thread. Lists are
+ * written as they are read, as a JSON array or, for {@code application/x-ndjson}, one tutorial per line; the
+ * database is only asked for more rows as the client takes them. Because the status is committed before the
+ * first row is read, an empty list is {@code []} rather than 204. Writes go through JPA on the bounded elastic
+ * scheduler. Bulk, search, export, merge-patch, field projections, ingestion, statistics and the change
+ * stream remain servlet-only.
+ */
+@CrossOrigin(origins = "http://localhost:8081", exposedHeaders = { TutorialController.DELETED_COUNT_HEADER,
+        HttpHeaders.ETAG })
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTutorialController {
+  private static final Logger logger = LogManager.getLogger(ReactiveTutorialController.class);
+
+  @Autowired
+  ReactiveTutorialRepository reactiveTutorialRepository;
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  @Autowired
+  TutorialBulkService tutorialBulkService;
+
+  @GetMapping(value = "/tutorials", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+  public Flux<Tutorial> getAllTutorials(@RequestParam(required = false) String title) {
+    logger.info("Streaming tutorials with title: {}", title);
+    Flux<Tutorial> tutorials = title == null ? reactiveTutorialRepository.findAll()
+            : reactiveTutorialRepository.findByTitleContainingIgnoreCase(title);
+    return tutorials.doOnError(e -> logger.error("Error streaming tutorials", e));
+  }
+
+  @GetMapping(value = "/tutorials/published", produces = { MediaType.APPLICATION_JSON_VALUE,
+          MediaType.APPLICATION_NDJSON_VALUE })
+  public Flux<Tutorial> findByPublished() {
+    logger.info("Streaming all published tutorials");
+    return reactiveTutorialRepository.findByPublished(true)
+            .doOnError(e -> logger.error("Error streaming published tutorials", e));
+  }
+
+  // WebFlux answers If-None-Match itself (304) from the ETag on the returned entity.
+  @GetMapping("/tutorials/{id}")
+  public Mono<ResponseEntity<Tutorial>> getTutorialById(@PathVariable("id") long id, ServerWebExchange exchange) {
+    logger.info("Fetching tutorial with ID: {}", id);
+    return reactiveTutorialRepository.findById(id)
+            .map(tutorial -> new ResponseEntity<>(tutorial, TutorialController.eTagHeaders(
+                    TutorialETags.of(tutorial, TutorialFormats.negotiate(exchange))), HttpStatus.OK))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+              logger.warn("Tutorial not found with ID: {}", id);
+              return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }))
+            .onErrorResume(e -> {
+              logger.error("Error fetching tutorial with ID: {}", id, e);
+              return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            });
+  }
+
+  @PostMapping("/tutorials")
+  public Mono<ResponseEntity<Tutorial>> createTutorial(@RequestBody Tutorial tutorial) {
+    logger.info("Creating new tutorial with title: {}", tutorial.getTitle());
+    return blocking(() -> tutorialRepository.save(new Tutorial(tutorial.getTitle(), tutorial.getDescription(), false)))
+            .map(_tutorial -> {
+              logger.debug("Tutorial created with ID: {}", _tutorial.getId());
+              return new ResponseEntity<>(_tutorial, HttpStatus.CREATED);
+            })
+            .onErrorResume(e -> {
+              logger.error("Error creating tutorial", e);
+              return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            });
+  }
+
+  @PutMapping("/tutorials/{id}")
+  public Mono<ResponseEntity<Tutorial>> updateTutorial(@PathVariable("id") long id, @RequestBody Tutorial tutorial,
+          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch, ServerWebExchange exchange) {
+    logger.info("Updating tutorial with ID: {}", id);
+    return blocking(() -> {
+      Optional<Tutorial> tutorialData = tutorialRepository.findById(id);
+      if (tutorialData.isEmpty()) {
+        logger.warn("Unable to update. Tutorial not found with ID: {}", id);
+        return new ResponseEntity<Tutorial>(HttpStatus.NOT_FOUND);
+      }
+
+      Tutorial _tutorial = tutorialData.get();
+      if (ifMatch != null && !TutorialETags.matches(ifMatch, _tutorial)) {
+        logger.warn("Unable to update. Tutorial with ID: {} does not match {}", id, ifMatch);
+        return new ResponseEntity<Tutorial>(HttpStatus.PRECONDITION_FAILED);
+      }
+
+      _tutorial.setTitle(tutorial.getTitle());
+      _tutorial.setDescription(tutorial.getDescription());
+      _tutorial.setPublished(tutorial.isPublished());
+      try {
+        _tutorial = tutorialRepository.save(_tutorial);
+      } catch (OptimisticLockingFailureException e) {
+        logger.warn("Unable to update. Tutorial with ID: {} was modified concurrently", id);
+        return new ResponseEntity<Tutorial>(HttpStatus.PRECONDITION_FAILED);
+      }
+      logger.debug("Tutorial updated with ID: {}", id);
+      return new ResponseEntity<>(_tutorial, TutorialController.eTagHeaders(
+              TutorialETags.of(_tutorial, TutorialFormats.negotiate(exchange))), HttpStatus.OK);
+    }).onErrorResume(e -> {
+      logger.error("Error updating tutorial with ID: {}", id, e);
+      return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+    });
+  }
+
+  @DeleteMapping("/tutorials/{id}")
+  public Mono<ResponseEntity<HttpStatus>> deleteTutorial(@PathVariable("id") long id) {
+    logger.info("Deleting tutorial with ID: {}", id);
+    return blocking(() -> tutorialBulkService.deleteById(id))
+            .map(deleted -> {
+              logger.debug("Deleted {} tutorial(s) with ID: {}", deleted, id);
+              return new ResponseEntity<HttpStatus>(TutorialController.deletedCountHeaders(deleted), HttpStatus.NO_CONTENT);
+            })
+            .onErrorResume(e -> {
+              logger.error("Error deleting tutorial with ID: {}", id, e);
+              return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            });
+  }
+
+  @DeleteMapping("/tutorials")
+  public Mono<ResponseEntity<HttpStatus>> deleteAllTutorials() {
+    logger.info("Deleting all tutorials");
+    return blocking(() -> tutorialBulkService.deleteEverything())
+            .map(deleted -> {
+              logger.debug("Deleted {} tutorials", deleted);
+              return new ResponseEntity<HttpStatus>(TutorialController.deletedCountHeaders(deleted), HttpStatus.NO_CONTENT);
+            })
+            .onErrorResume(e -> {
+              logger.error("Error deleting all tutorials", e);
+              return Mono.just(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
+            });
+  }
+
+  // JPA blocks the calling thread, so it runs on the bounded elastic scheduler instead of an event-loop thread.
+  private static <T> Mono<T> blocking(Callable<T> work) {
+    return Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic());
+  }
+}
@@ -1,74 +1,257 @@
 package com.bezkoder.spring.jpa.h2.controller;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialField;
 import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.bezkoder.spring.jpa.h2.service.BulkItemResult;
+import com.bezkoder.spring.jpa.h2.service.IngestionStatus;
+import com.bezkoder.spring.jpa.h2.service.TutorialBulkService;
+import com.bezkoder.spring.jpa.h2.service.TutorialChangeStreamService;
+import com.bezkoder.spring.jpa.h2.service.TutorialExportService;
+import com.bezkoder.spring.jpa.h2.service.TutorialIngestionService;
+import com.bezkoder.spring.jpa.h2.service.TutorialSearchService;
+import com.bezkoder.spring.jpa.h2.view.PublishedTutorialsView;
+import com.bezkoder.spring.jpa.h2.view.TutorialStatisticsView;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
-@CrossOrigin(origins = "http://localhost:8081")
+@CrossOrigin(origins = "http://localhost:8081", exposedHeaders = { TutorialController.NEXT_CURSOR_HEADER,
+        TutorialController.DELETED_COUNT_HEADER, HttpHeaders.ETAG })
 @RestController
 @RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TutorialController {
   private static final Logger logger = LogManager.getLogger(TutorialController.class);
 
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  static final String DELETED_COUNT_HEADER = "X-Deleted-Count";
+  static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+  static final int DEFAULT_PAGE_SIZE = 50;
+  static final int MAX_PAGE_SIZE = 1000;
+  static final int DEFAULT_SEARCH_LIMIT = 100;
+
   @Autowired
   TutorialRepository tutorialRepository;
 
+  @Autowired
+  TutorialExportService tutorialExportService;
+
+  @Autowired
+  TutorialSearchService tutorialSearchService;
+
+  @Autowired
+  TutorialBulkService tutorialBulkService;
+
+  @Autowired
+  PublishedTutorialsView publishedTutorialsView;
+
+  @Autowired
+  TutorialStatisticsView tutorialStatisticsView;
+
+  @Autowired
+  TutorialIngestionService tutorialIngestionService;
+
+  @Autowired
+  TutorialChangeStreamService tutorialChangeStreamService;
+
+  @Value("${tutorials.bulk.max-items:10000}")
+  int maxBulkItems;
+
+  // With fields=... only the listed properties (plus id) are selected and returned, e.g. fields=title for a
+  // list of titles; without it every response carries full tutorials.
   @GetMapping("/tutorials")
-  public ResponseEntity<List<Tutorial>> getAllTutorials(@RequestParam(required = false) String title) {
-    logger.debug("Request to fetch all tutorials. Title filter: {}", title);
+  public ResponseEntity<List<?>> getAllTutorials(@RequestParam(required = false) String title,
+          @RequestParam(required = false) Integer limit, @RequestParam(required = false) String after,
+          @RequestParam(required = false) String fields, WebRequest request) {
+    Set<TutorialField> selected;
     try {
-      List<Tutorial> tutorials = new ArrayList<>();
-      logger.trace("Starting to fetch tutorials from database");
+      selected = fields == null ? null : TutorialField.parse(fields);
+    } catch (IllegalArgumentException e) {
+      logger.warn("Rejecting invalid fields: {}", fields);
+      return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
 
-      if (title == null) {
-        tutorialRepository.findAll().forEach(tutorials::add);
-        logger.trace("Fetched all tutorials");
-      } else {
-        tutorialRepository.findByTitleContainingIgnoreCase(title).forEach(tutorials::add);
-        logger.trace("Fetched tutorials with title containing: {}", title);
+    // A title alone is a ranked search; with limit or after the matches are paged in id order instead, so a
+    // title-filtered first page carries the cursor to the next one.
+    if (title != null && limit == null && after == null) {
+      return searchTutorials(title, selected);
+    }
+    if (limit != null || after != null) {
+      return getTutorialsPage(title, limit, after, selected);
+    }
+
+    logger.debug("Request to fetch all tutorials");
+    try {
+      // The collection version is a single aggregate query, so a revalidating client skips loading and
+      // serializing the whole table when nothing changed.
+      String etag = TutorialETags.of(collectionName("all", selected), tutorialRepository.getCollectionVersion(),
+              TutorialFormats.negotiate(request));
+      if (request.checkNotModified(etag)) {
+        logger.debug("Tutorials not modified since {}", etag);
+        return null;
       }
 
+      logger.trace("Starting to fetch tutorials from database");
+      List<?> tutorials = selected == null ? tutorialRepository.findAll() : tutorialRepository.findAllFields(selected);
+      logger.trace("Fetched all tutorials");
+
       if (tutorials.isEmpty()) {
-        logger.warn("No tutorials found with title: {}", title);
+        logger.warn("No tutorials found");
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
       }
 
       logger.info("Returning all tutorials");
-      return new ResponseEntity<>(tutorials, HttpStatus.OK);
+      return new ResponseEntity<>(tutorials, eTagHeaders(etag), HttpStatus.OK);
     } catch (Exception e) {
       logger.error("Error fetching tutorials", e);
       return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
     }
   }
 
+  private ResponseEntity<List<?>> searchTutorials(String title, Set<TutorialField> fields) {
+    logger.debug("Request to search tutorials for: {}", title);
+    try {
+      List<Tutorial> tutorials = tutorialSearchService.search(title, DEFAULT_SEARCH_LIMIT);
+
+      if (tutorials.isEmpty()) {
+        logger.warn("No tutorials found with title: {}", title);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      }
+
+      logger.info("Returning {} tutorials matching: {}", tutorials.size(), title);
+      // Matches are loaded by id (mostly from the second-level cache), so fields only trims the response.
+      return new ResponseEntity<>(fields == null ? tutorials : select(tutorials, fields), HttpStatus.OK);
+    } catch (Exception e) {
+      logger.error("Error searching tutorials", e);
+      return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private ResponseEntity<List<?>> getTutorialsPage(String title, Integer limit, String after,
+          Set<TutorialField> fields) {
+    logger.debug("Request to fetch a page of tutorials. Title filter: {}, limit: {}, after: {}", title, limit, after);
+    int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    long afterId;
+    try {
+      afterId = after == null ? 0L : TutorialCursor.decode(after);
+    } catch (IllegalArgumentException e) {
+      logger.warn("Rejecting invalid cursor: {}", after);
+      return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
+
+    if (pageSize < 1) {
+      logger.warn("Rejecting invalid page size: {}", limit);
+      return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
+
+    try {
+      // Fetch one extra row to find out whether another page follows without issuing a count query.
+      PageRequest window = PageRequest.of(0, pageSize + 1);
+      List<?> tutorials;
+      if (fields != null) {
+        tutorials = tutorialRepository.findFieldsPage(fields, title, afterId, pageSize + 1);
+      } else if (title == null) {
+        tutorials = tutorialRepository.findByIdGreaterThanOrderByIdAsc(afterId, window);
+      } else {
+        tutorials = tutorialRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(title, afterId, window);
+      }
+
+      if (tutorials.isEmpty()) {
+        logger.warn("No tutorials found after cursor: {}", after);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      }
+
+      HttpHeaders headers = new HttpHeaders();
+      if (tutorials.size() > pageSize) {
+        tutorials = tutorials.subList(0, pageSize);
+        headers.set(NEXT_CURSOR_HEADER, TutorialCursor.encode(idOf(tutorials.get(pageSize - 1))));
+      }
+
+      logger.info("Returning a page of {} tutorials", tutorials.size());
+      return new ResponseEntity<>(tutorials, headers, HttpStatus.OK);
+    } catch (Exception e) {
+      logger.error("Error fetching a page of tutorials", e);
+      return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @GetMapping(value = "/tutorials/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportTutorials() {
+    logger.info("Exporting all tutorials as NDJSON");
+    StreamingResponseBody body = out -> {
+      try {
+        long count = tutorialExportService.exportNdjson(out);
+        logger.debug("Exported {} tutorials", count);
+      } catch (Exception e) {
+        logger.error("Error exporting tutorials", e);
+        throw e;
+      }
+    };
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+    return new ResponseEntity<>(body, headers, HttpStatus.OK);
+  }
+
+  // Server-sent events for every committed create, update and delete, so clients stay current without
+  // re-reading the list. Browsers resume with the Last-Event-ID header on reconnect; lastEventId does the same
+  // for a fresh connection, e.g. after a page reload.
+  @GetMapping(value = "/tutorials/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(@RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId,
+          @RequestParam(name = "lastEventId", required = false) String lastEventIdParam) {
+    String resumeAfter = lastEventId != null ? lastEventId : lastEventIdParam;
+    logger.info("Subscribing to tutorial changes after: {}", resumeAfter);
+    return tutorialChangeStreamService.subscribe(resumeAfter);
+  }
+
   @GetMapping("/tutorials/{id}")
-  public ResponseEntity<Tutorial> getTutorialById(@PathVariable("id") long id) {
+  public ResponseEntity<Tutorial> getTutorialById(@PathVariable("id") long id, WebRequest request) {
     logger.info("Fetching tutorial by ID: {}", id);
     Optional<Tutorial> tutorialData = tutorialRepository.findById(id);
 
     if (tutorialData.isPresent()) {
       logger.trace("Tutorial found for ID: {}", id);
-      return new ResponseEntity<>(tutorialData.get(), HttpStatus.OK);
+      // Spring answers a matching If-None-Match with 304 before the body is serialized.
+      Tutorial _tutorial = tutorialData.get();
+      return new ResponseEntity<>(_tutorial, eTagHeaders(TutorialETags.of(_tutorial, TutorialFormats.negotiate(request))),
+              HttpStatus.OK);
     } else {
       logger.warn("Tutorial not found with ID: {}", id);
       return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -89,31 +272,133 @@ public class TutorialController {
     }
   }
 
+  // Write-behind create for import bursts: 202 once queued, then poll the Location for the outcome. A full
+  // queue answers 503 with Retry-After, which is the signal for clients to slow down.
+  @PostMapping("/tutorials/ingest")
+  public ResponseEntity<IngestionStatus> ingestTutorial(@RequestBody Tutorial tutorial) {
+    logger.info("Queueing new tutorial with title: {}", tutorial.getTitle());
+    try {
+      Optional<IngestionStatus> status = tutorialIngestionService.submit(tutorial);
+      if (status.isEmpty()) {
+        logger.warn("Ingestion queue full, rejecting tutorial with title: {}", tutorial.getTitle());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>(headers, HttpStatus.SERVICE_UNAVAILABLE);
+      }
+
+      logger.debug("Tutorial queued with tracking ID: {}", status.get().getTrackingId());
+      HttpHeaders headers = new HttpHeaders();
+      headers.setLocation(ServletUriComponentsBuilder.fromCurrentRequest().path("/{trackingId}")
+              .buildAndExpand(status.get().getTrackingId()).toUri());
+      return new ResponseEntity<>(status.get(), headers, HttpStatus.ACCEPTED);
+    } catch (Exception e) {
+      logger.error("Error queueing tutorial", e);
+      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @GetMapping("/tutorials/ingest/{trackingId}")
+  public ResponseEntity<IngestionStatus> getIngestionStatus(@PathVariable("trackingId") String trackingId) {
+    logger.info("Fetching ingestion status for tracking ID: {}", trackingId);
+    Optional<IngestionStatus> status = tutorialIngestionService.getStatus(trackingId);
+
+    if (status.isPresent()) {
+      return new ResponseEntity<>(status.get(), HttpStatus.OK);
+    } else {
+      logger.warn("Ingestion status not found for tracking ID: {}", trackingId);
+      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+  }
+
+  // Counts come from the in-memory view, so a dashboard can poll this without the table being counted each time.
+  @GetMapping("/tutorials/stats")
+  public ResponseEntity<TutorialStatisticsView.Statistics> getStatistics() {
+    logger.info("Fetching tutorial statistics");
+    try {
+      TutorialStatisticsView.Statistics statistics = tutorialStatisticsView.statistics();
+      logger.debug("Returning statistics of {} tutorials", statistics.total());
+      return new ResponseEntity<>(statistics, HttpStatus.OK);
+    } catch (Exception e) {
+      logger.error("Error fetching tutorial statistics", e);
+      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
   @PutMapping("/tutorials/{id}")
-  public ResponseEntity<Tutorial> updateTutorial(@PathVariable("id") long id, @RequestBody Tutorial tutorial) {
+  public ResponseEntity<Tutorial> updateTutorial(@PathVariable("id") long id, @RequestBody Tutorial tutorial,
+          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch, WebRequest request) {
     logger.info("Updating tutorial with ID: {}", id);
     Optional<Tutorial> tutorialData = tutorialRepository.findById(id);
 
     if (tutorialData.isPresent()) {
       Tutorial _tutorial = tutorialData.get();
+      if (ifMatch != null && !TutorialETags.matches(ifMatch, _tutorial)) {
+        logger.warn("Unable to update. Tutorial with ID: {} does not match {}", id, ifMatch);
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+      }
+
       _tutorial.setTitle(tutorial.getTitle());
       _tutorial.setDescription(tutorial.getDescription());
       _tutorial.setPublished(tutorial.isPublished());
+      try {
+        // save() merges with the loaded version, so a write that slipped in since findById is detected here.
+        _tutorial = tutorialRepository.save(_tutorial);
+      } catch (OptimisticLockingFailureException e) {
+        logger.warn("Unable to update. Tutorial with ID: {} was modified concurrently", id);
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+      }
       logger.debug("Tutorial updated with ID: {}", id);
-      return new ResponseEntity<>(tutorialRepository.save(_tutorial), HttpStatus.OK);
+      return new ResponseEntity<>(_tutorial, eTagHeaders(TutorialETags.of(_tutorial, TutorialFormats.negotiate(request))),
+              HttpStatus.OK);
     } else {
       logger.warn("Unable to update. Tutorial not found with ID: {}", id);
       return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
   }
 
+  @PatchMapping(path = "/tutorials/{id}", consumes = { TutorialMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE })
+  public ResponseEntity<Tutorial> patchTutorial(@PathVariable("id") long id, @RequestBody JsonNode patch,
+          @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch, WebRequest request) {
+    logger.info("Patching tutorial with ID: {}", id);
+    // Usually a second-level cache hit, leaving the UPDATE as the only statement.
+    Optional<Tutorial> tutorialData = tutorialRepository.findById(id);
+
+    if (tutorialData.isPresent()) {
+      Tutorial _tutorial = tutorialData.get();
+      if (ifMatch != null && !TutorialETags.matches(ifMatch, _tutorial)) {
+        logger.warn("Unable to patch. Tutorial with ID: {} does not match {}", id, ifMatch);
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+      }
+
+      try {
+        TutorialMergePatch.apply(patch, _tutorial);
+      } catch (IllegalArgumentException e) {
+        logger.warn("Rejecting patch for tutorial with ID: {}: {}", id, e.getMessage());
+        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+      }
+
+      try {
+        _tutorial = tutorialRepository.save(_tutorial);
+      } catch (OptimisticLockingFailureException e) {
+        logger.warn("Unable to patch. Tutorial with ID: {} was modified concurrently", id);
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+      }
+      logger.debug("Tutorial patched with ID: {}", id);
+      return new ResponseEntity<>(_tutorial, eTagHeaders(TutorialETags.of(_tutorial, TutorialFormats.negotiate(request))),
+              HttpStatus.OK);
+    } else {
+      logger.warn("Unable to patch. Tutorial not found with ID: {}", id);
+      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+  }
+
   @DeleteMapping("/tutorials/{id}")
   public ResponseEntity<HttpStatus> deleteTutorial(@PathVariable("id") long id) {
     logger.info("Deleting tutorial with ID: {}", id);
     try {
-      tutorialRepository.deleteById(id);
-      logger.debug("Tutorial deleted with ID: {}", id);
-      return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      int deleted = tutorialBulkService.deleteById(id);
+      logger.debug("Deleted {} tutorial(s) with ID: {}", deleted, id);
+      return new ResponseEntity<>(deletedCountHeaders(deleted), HttpStatus.NO_CONTENT);
     } catch (Exception e) {
       logger.error("Error deleting tutorial with ID: {}", id, e);
       return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -124,31 +409,196 @@ public class TutorialController {
   public ResponseEntity<HttpStatus> deleteAllTutorials() {
     logger.info("Deleting all tutorials");
     try {
-      tutorialRepository.deleteAll();
-      logger.debug("All tutorials deleted");
-      return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      long deleted = tutorialBulkService.deleteEverything();
+      logger.debug("All tutorials deleted ({} rows)", deleted);
+      return new ResponseEntity<>(deletedCountHeaders(deleted), HttpStatus.NO_CONTENT);
     } catch (Exception e) {
       logger.error("Error deleting all tutorials", e);
       return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
     }
   }
 
-  @GetMapping("/tutorials/published")
-  public ResponseEntity<List<Tutorial>> findByPublished() {
+  @PostMapping("/tutorials/bulk")
+  public ResponseEntity<List<BulkItemResult>> createTutorials(@RequestBody List<Tutorial> tutorials) {
+    logger.info("Bulk creating {} tutorials", tutorials.size());
+    if (tutorials.size() > maxBulkItems) {
+      logger.warn("Rejecting bulk create of {} tutorials, limit is {}", tutorials.size(), maxBulkItems);
+      return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    List<BulkItemResult> results = tutorialBulkService.createAll(tutorials);
+    logger.debug("Bulk create finished for {} tutorials", results.size());
+    return new ResponseEntity<>(results, HttpStatus.OK);
+  }
+
+  @PutMapping("/tutorials/bulk")
+  public ResponseEntity<List<BulkItemResult>> updateTutorials(@RequestBody List<Tutorial> tutorials) {
+    logger.info("Bulk updating {} tutorials", tutorials.size());
+    if (tutorials.size() > maxBulkItems) {
+      logger.warn("Rejecting bulk update of {} tutorials, limit is {}", tutorials.size(), maxBulkItems);
+      return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    List<BulkItemResult> results = tutorialBulkService.updateAll(tutorials);
+    logger.debug("Bulk update finished for {} tutorials", results.size());
+    return new ResponseEntity<>(results, HttpStatus.OK);
+  }
+
+  @DeleteMapping("/tutorials/bulk")
+  public ResponseEntity<List<BulkItemResult>> deleteTutorials(@RequestBody List<Long> ids) {
+    logger.info("Bulk deleting {} tutorials", ids.size());
+    if (ids.size() > maxBulkItems) {
+      logger.warn("Rejecting bulk delete of {} tutorials, limit is {}", ids.size(), maxBulkItems);
+      return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    List<BulkItemResult> results = tutorialBulkService.deleteAll(ids);
+    logger.debug("Bulk delete finished for {} tutorials", results.size());
+    return new ResponseEntity<>(results, HttpStatus.OK);
+  }
+
+  @GetMapping(value = "/tutorials/published", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> findByPublished(
+          @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+          WebRequest request) {
     logger.info("Fetching all published tutorials");
     try {
+      // The body is pre-serialized (and pre-compressed) by the view, so it is written out as raw bytes.
+      PublishedTutorialsView.Snapshot snapshot = publishedTutorialsView.snapshot();
+
+      if (snapshot.size() == 0) {
+        logger.warn("No published tutorials found");
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      }
+
+      boolean gzip = acceptsGzip(acceptEncoding);
+      String etag = gzip ? snapshot.getGzipETag() : snapshot.getETag();
+      if (request.checkNotModified(etag)) {
+        logger.debug("Published tutorials not modified since {}", etag);
+        return null;
+      }
+
+      HttpHeaders headers = eTagHeaders(etag);
+      headers.setContentType(MediaType.APPLICATION_JSON);
+      headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+      if (gzip) {
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+      }
+
+      logger.debug("Returning {} published tutorials", snapshot.size());
+      return new ResponseEntity<>(gzip ? snapshot.getGzip() : snapshot.getJson(), headers, HttpStatus.OK);
+    } catch (Exception e) {
+      logger.error("Error fetching published tutorials", e);
+      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  // The view only holds JSON, so binary consumers get the cached query result, encoded by the Smile/CBOR converter.
+  @GetMapping(value = "/tutorials/published", produces = { TutorialFormats.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE })
+  public ResponseEntity<List<Tutorial>> findByPublishedBinary(WebRequest request) {
+    logger.info("Fetching all published tutorials in a binary format");
+    try {
+      String etag = TutorialETags.of("published", tutorialRepository.getCollectionVersion(),
+              TutorialFormats.negotiate(request));
+      if (request.checkNotModified(etag)) {
+        logger.debug("Published tutorials not modified since {}", etag);
+        return null;
+      }
+
       List<Tutorial> tutorials = tutorialRepository.findByPublished(true);
+      if (tutorials.isEmpty()) {
+        logger.warn("No published tutorials found");
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      }
+
+      logger.debug("Returning {} published tutorials", tutorials.size());
+      return new ResponseEntity<>(tutorials, eTagHeaders(etag), HttpStatus.OK);
+    } catch (Exception e) {
+      logger.error("Error fetching published tutorials", e);
+      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  // Projected published lists are not pre-serialized by the view; the query is cached instead.
+  @GetMapping(value = "/tutorials/published", params = "fields")
+  public ResponseEntity<List<Map<String, Object>>> findByPublishedFields(@RequestParam String fields,
+          WebRequest request) {
+    logger.info("Fetching published tutorials with fields: {}", fields);
+    Set<TutorialField> selected;
+    try {
+      selected = TutorialField.parse(fields);
+    } catch (IllegalArgumentException e) {
+      logger.warn("Rejecting invalid fields: {}", fields);
+      return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
 
+    try {
+      String etag = TutorialETags.of(collectionName("published", selected), tutorialRepository.getCollectionVersion(),
+              TutorialFormats.negotiate(request));
+      if (request.checkNotModified(etag)) {
+        logger.debug("Published tutorials not modified since {}", etag);
+        return null;
+      }
+
+      List<Map<String, Object>> tutorials = tutorialRepository.findFieldsByPublished(selected, true);
       if (tutorials.isEmpty()) {
         logger.warn("No published tutorials found");
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
       }
 
-      logger.debug("Returning published tutorials");
-      return new ResponseEntity<>(tutorials, HttpStatus.OK);
+      logger.debug("Returning {} published tutorials", tutorials.size());
+      return new ResponseEntity<>(tutorials, eTagHeaders(etag), HttpStatus.OK);
     } catch (Exception e) {
       logger.error("Error fetching published tutorials", e);
       return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
     }
   }
-}
\ No newline at end of file
+
+  private static List<Map<String, Object>> select(List<Tutorial> tutorials, Set<TutorialField> fields) {
+    List<Map<String, Object>> rows = new ArrayList<>(tutorials.size());
+    for (Tutorial tutorial : tutorials) {
+      Map<String, Object> row = new LinkedHashMap<>();
+      for (TutorialField field : fields) {
+        row.put(field.property(), field.get(tutorial));
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static long idOf(Object tutorial) {
+    return tutorial instanceof Tutorial t ? t.getId() : ((Number) ((Map<?, ?>) tutorial).get("id")).longValue();
+  }
+
+  // Each field selection is its own representation, so it gets its own ETag.
+  private static String collectionName(String collection, Set<TutorialField> fields) {
+    if (fields == null) {
+      return collection;
+    }
+    return collection + fields.stream().map(TutorialField::property).collect(Collectors.joining("-", "-", ""));
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+    for (String coding : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+      String[] parts = coding.split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?"));
+      }
+    }
+    return false;
+  }
+
+  // Tagged responses are negotiated between JSON, Smile and CBOR, so caches have to key them on Accept too.
+  static HttpHeaders eTagHeaders(String etag) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(etag);
+    headers.setVary(List.of(HttpHeaders.ACCEPT));
+    return headers;
+  }
+
+  static HttpHeaders deletedCountHeaders(long deleted) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(DELETED_COUNT_HEADER, Long.toString(deleted));
+    return headers;
+  }
+}
@@ -0,0 +1,34 @@
+package com.bezkoder.spring.jpa.h2.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque pagination cursor handed out by {@link TutorialController}. Clients only echo it back in the
+ * {@code after} parameter; the encoding (a versioned, base64url wrapped id) is free to change.
+ */
+final class TutorialCursor {
+  private static final String PREFIX = "v1:";
+
+  private TutorialCursor() {
+  }
+
+  static String encode(long id) {
+    return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((PREFIX + id).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  static long decode(String cursor) {
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+    }
+
+    if (!decoded.startsWith(PREFIX)) {
+      throw new IllegalArgumentException("Unsupported cursor: " + cursor);
+    }
+    return Long.parseLong(decoded.substring(PREFIX.length()));
+  }
+}
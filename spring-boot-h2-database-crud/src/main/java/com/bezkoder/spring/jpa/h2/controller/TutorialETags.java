@@ -0,0 +1,52 @@
+package com.bezkoder.spring.jpa.h2.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialCollectionVersion;
+
+/**
+ * Entity tags for tutorial resources. A single tutorial gets a strong tag from its id and {@code @Version};
+ * collections get a weak tag from their {@link TutorialCollectionVersion}. Binary representations (see
+ * {@link TutorialFormats}) get their own tags, so a cache never answers a CBOR request with a JSON body.
+ */
+final class TutorialETags {
+
+  private TutorialETags() {
+  }
+
+  static String of(Tutorial tutorial) {
+    return of(tutorial, MediaType.APPLICATION_JSON);
+  }
+
+  static String of(Tutorial tutorial, MediaType format) {
+    return "\"" + tutorial.getId() + "." + tutorial.getVersion() + TutorialFormats.suffix(format) + "\"";
+  }
+
+  static String of(String collection, TutorialCollectionVersion version) {
+    return of(collection, version, MediaType.APPLICATION_JSON);
+  }
+
+  static String of(String collection, TutorialCollectionVersion version, MediaType format) {
+    return "W/\"" + collection + "." + version.getCount() + "." + version.getMaxId() + "." + version.getIdSum()
+            + "." + version.getVersionSum() + TutorialFormats.suffix(format) + "\"";
+  }
+
+  /**
+   * Evaluates an {@code If-Match} header against the current state of a tutorial using strong comparison
+   * (RFC 9110, 13.1.1). A tag of any representation matches, since they all describe the same version.
+   */
+  static boolean matches(String ifMatch, Tutorial tutorial) {
+    List<String> current = TutorialFormats.ALL.stream().map(format -> of(tutorial, format)).toList();
+    for (String candidate : StringUtils.commaDelimitedListToStringArray(ifMatch)) {
+      candidate = candidate.trim();
+      if (candidate.equals("*") || current.contains(candidate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
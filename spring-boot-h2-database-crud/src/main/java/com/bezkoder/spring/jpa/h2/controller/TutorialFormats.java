@@ -0,0 +1,83 @@
+package com.bezkoder.spring.jpa.h2.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Representations the tutorial endpoints can produce: JSON, and Smile or CBOR (binary JSON through the
+ * Jackson dataformat converters) for consumers that ask for them in {@code Accept}.
+ *
+ * <p>Handlers that compute an ETag before the body is written need to know which of them Spring MVC is going to
+ * pick. {@link #negotiate} resolves it the same way, walking the accepted types in order and taking the first
+ * producible one, in converter order.
+ */
+final class TutorialFormats {
+  static final String SMILE_VALUE = "application/x-jackson-smile";
+  static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+  static final List<MediaType> ALL = List.of(MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR);
+
+  private static final HeaderContentNegotiationStrategy ACCEPT = new HeaderContentNegotiationStrategy();
+
+  private TutorialFormats() {
+  }
+
+  /**
+   * @return the format the response will be written in; JSON when {@code Accept} is missing, malformed or
+   *         names nothing producible (Spring then answers 406 without using the ETag)
+   */
+  static MediaType negotiate(WebRequest request) {
+    List<MediaType> accepted;
+    try {
+      accepted = ACCEPT.resolveMediaTypes((NativeWebRequest) request);
+    } catch (HttpMediaTypeNotAcceptableException e) {
+      return MediaType.APPLICATION_JSON;
+    }
+    return firstProducible(accepted);
+  }
+
+  /**
+   * Reactive counterpart of {@link #negotiate(WebRequest)}, ordering {@code Accept} the way
+   * {@link HeaderContentNegotiationStrategy} does.
+   */
+  static MediaType negotiate(ServerWebExchange exchange) {
+    List<MediaType> accepted;
+    try {
+      accepted = new ArrayList<>(exchange.getRequest().getHeaders().getAccept());
+    } catch (InvalidMediaTypeException e) {
+      return MediaType.APPLICATION_JSON;
+    }
+    MimeTypeUtils.sortBySpecificity(accepted);
+    return firstProducible(accepted);
+  }
+
+  private static MediaType firstProducible(List<MediaType> accepted) {
+    for (MediaType type : accepted) {
+      for (MediaType format : ALL) {
+        if (type.isCompatibleWith(format)) {
+          return format;
+        }
+      }
+    }
+    return MediaType.APPLICATION_JSON;
+  }
+
+  static String suffix(MediaType format) {
+    if (format.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+      return "-cbor";
+    }
+    if (format.isCompatibleWith(SMILE)) {
+      return "-smile";
+    }
+    return "";
+  }
+}
@@ -0,0 +1,63 @@
+package com.bezkoder.spring.jpa.h2.controller;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7396) to a {@link Tutorial}. Only members present in the patch are
+ * touched, so with {@code @DynamicUpdate} the resulting UPDATE sets just those columns.
+ */
+final class TutorialMergePatch {
+  static final String MEDIA_TYPE = "application/merge-patch+json";
+
+  private TutorialMergePatch() {
+  }
+
+  /**
+   * @throws IllegalArgumentException if the patch is not an object, names a member that cannot be patched
+   *         or has a value of the wrong type; the tutorial is left unchanged in that case
+   */
+  static void apply(JsonNode patch, Tutorial tutorial) {
+    if (patch == null || !patch.isObject()) {
+      throw new IllegalArgumentException("Merge patch must be a JSON object");
+    }
+
+    String title = tutorial.getTitle();
+    String description = tutorial.getDescription();
+    boolean published = tutorial.isPublished();
+
+    for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext();) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      JsonNode value = field.getValue();
+      switch (field.getKey()) {
+        case "title" -> title = text(field.getKey(), value);
+        case "description" -> description = text(field.getKey(), value);
+        case "published" -> {
+          if (!value.isBoolean()) {
+            throw new IllegalArgumentException("published must be true or false");
+          }
+          published = value.booleanValue();
+        }
+        default -> throw new IllegalArgumentException("Cannot patch " + field.getKey());
+      }
+    }
+
+    tutorial.setTitle(title);
+    tutorial.setDescription(description);
+    tutorial.setPublished(published);
+  }
+
+  // Merge patch semantics: null removes the member, which for a nullable column means clearing it.
+  private static String text(String name, JsonNode value) {
+    if (value.isNull()) {
+      return null;
+    }
+    if (!value.isTextual()) {
+      throw new IllegalArgumentException(name + " must be a string");
+    }
+    return value.textValue();
+  }
+}
@@ -0,0 +1,156 @@
+package com.bezkoder.spring.jpa.h2.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The last {@code tutorials.changes.log-capacity} committed {@link TutorialChangedEvent}s, numbered in commit
+ * order, for clients that follow changes instead of re-reading the table.
+ *
+ * <p>Each change is serialized once when it is appended; readers hold a position (a sequence number) and ask
+ * for what came after it. Positions are only meaningful within one {@link #getEpoch() epoch}, i.e. until the
+ * application restarts. A reader whose position has been evicted, or comes from another epoch, has to start over
+ * from a full read.
+ */
+@Component
+public class TutorialChangeLog {
+  private static final Logger logger = LogManager.getLogger(TutorialChangeLog.class);
+
+  /**
+   * One committed change. {@code data} is the JSON body sent to clients: {@code type}, {@code id} and, for
+   * creates and updates, the {@code tutorial}.
+   */
+  public record Change(long sequence, TutorialChangedEvent.Type type, String data) {
+  }
+
+  private final int capacity;
+  private final long epoch = System.currentTimeMillis();
+  private final Deque<Change> changes = new ArrayDeque<>();
+  // Readers wait on a Condition rather than in synchronized/wait(), which would pin their virtual threads.
+  private final Lock lock = new ReentrantLock();
+  private final Condition appended = lock.newCondition();
+  private long lastSequence;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  public TutorialChangeLog(@Value("${tutorials.changes.log-capacity:10000}") int capacity) {
+    this.capacity = capacity;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTutorialChanged(TutorialChangedEvent event) {
+    String data = serialize(event);
+    lock.lock();
+    try {
+      changes.addLast(new Change(++lastSequence, event.getType(), data));
+      if (changes.size() > capacity) {
+        changes.removeFirst();
+      }
+      appended.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getEpoch() {
+    return epoch;
+  }
+
+  public long getLastSequence() {
+    lock.lock();
+    try {
+      return lastSequence;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the changes after {@code sequence} in order, or empty if some of them have already been evicted
+   */
+  public Optional<List<Change>> readAfter(long sequence) {
+    lock.lock();
+    try {
+      if (sequence > lastSequence) {
+        return Optional.empty();
+      }
+      long firstRetained = lastSequence - changes.size() + 1;
+      if (sequence < firstRetained - 1) {
+        return Optional.empty();
+      }
+
+      // Walk back from the newest entry only as far as needed: a reader that is keeping up costs O(new changes).
+      List<Change> after = new ArrayList<>((int) (lastSequence - sequence));
+      Iterator<Change> newestFirst = changes.descendingIterator();
+      while (newestFirst.hasNext()) {
+        Change change = newestFirst.next();
+        if (change.sequence() <= sequence) {
+          break;
+        }
+        after.add(change);
+      }
+      Collections.reverse(after);
+      return Optional.of(after);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until something is appended after {@code sequence}.
+   *
+   * @return whether there is a change after {@code sequence}; false if the timeout elapsed first
+   */
+  public boolean awaitAfter(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lock();
+    try {
+      while (lastSequence <= sequence) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = appended.awaitNanos(nanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private String serialize(TutorialChangedEvent event) {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("type", event.getType());
+    data.put("id", event.getId());
+    if (event.getTutorial() != null) {
+      data.put("tutorial", event.getTutorial());
+    }
+    try {
+      return objectMapper.writeValueAsString(data);
+    } catch (JsonProcessingException e) {
+      logger.error("Unable to serialize {}", event, e);
+      return "{\"type\":\"" + event.getType() + "\",\"id\":" + event.getId() + "}";
+    }
+  }
+}
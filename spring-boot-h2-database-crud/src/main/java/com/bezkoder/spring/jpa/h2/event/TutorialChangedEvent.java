@@ -0,0 +1,85 @@
+package com.bezkoder.spring.jpa.h2.event;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+
+/**
+ * Describes a change to the tutorials table, so in-memory read models can follow it without polling.
+ * Entity-level changes are published by {@link TutorialEntityListener}.
+ */
+public class TutorialChangedEvent {
+
+  public enum Type {
+    CREATED, UPDATED, DELETED, CLEARED
+  }
+
+  /**
+   * The counted columns of a tutorial as they were before an update or delete.
+   */
+  public record Previous(String title, boolean published) {
+
+    public static Previous of(Tutorial tutorial) {
+      return new Previous(tutorial.getTitle(), tutorial.isPublished());
+    }
+  }
+
+  private final Type type;
+  private final long id;
+  private final Tutorial tutorial;
+  private final Previous previous;
+
+  private TutorialChangedEvent(Type type, long id, Tutorial tutorial, Previous previous) {
+    this.type = type;
+    this.id = id;
+    this.tutorial = tutorial;
+    this.previous = previous;
+  }
+
+  public static TutorialChangedEvent created(Tutorial tutorial) {
+    return new TutorialChangedEvent(Type.CREATED, tutorial.getId(), tutorial, null);
+  }
+
+  public static TutorialChangedEvent updated(Tutorial tutorial, Previous previous) {
+    return new TutorialChangedEvent(Type.UPDATED, tutorial.getId(), tutorial, previous);
+  }
+
+  public static TutorialChangedEvent deleted(long id, Previous previous) {
+    return new TutorialChangedEvent(Type.DELETED, id, null, previous);
+  }
+
+  /**
+   * Tutorials were deleted in bulk, without an event per row. Read models reload from the database rather than
+   * empty themselves: the table may not be empty once the event arrives.
+   */
+  public static TutorialChangedEvent cleared() {
+    return new TutorialChangedEvent(Type.CLEARED, 0L, null, null);
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * State of the tutorial after the change, or {@code null} for {@link Type#DELETED} and {@link Type#CLEARED}.
+   */
+  public Tutorial getTutorial() {
+    return tutorial;
+  }
+
+  /**
+   * State of the tutorial before the change for {@link Type#UPDATED} and {@link Type#DELETED}, so read models
+   * that only keep aggregates can take it out of the right one; {@code null} for the other types.
+   */
+  public Previous getPrevious() {
+    return previous;
+  }
+
+  @Override
+  public String toString() {
+    return "TutorialChangedEvent [type=" + type + ", id=" + id + "]";
+  }
+
+}
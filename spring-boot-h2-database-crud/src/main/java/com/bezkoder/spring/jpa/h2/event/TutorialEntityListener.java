@@ -0,0 +1,58 @@
+package com.bezkoder.spring.jpa.h2.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.stereotype.Component;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Turns JPA lifecycle callbacks on {@link Tutorial} into {@link TutorialChangedEvent}s, so every write that
+ * goes through the persistence context is seen regardless of which endpoint or service made it. Listeners
+ * should use {@code @TransactionalEventListener(fallbackExecution = true)} to only see committed changes.
+ *
+ * <p>Update and delete events carry the title and published flag the row had before, which the listener
+ * remembers on the entity whenever it is loaded or written.
+ *
+ * <p>Bulk JPQL/SQL statements bypass these callbacks and have to publish their own events.
+ */
+@Component
+public class TutorialEntityListener implements ApplicationEventPublisherAware {
+
+  private ApplicationEventPublisher eventPublisher;
+
+  // Hibernate asks Spring to create listener instances on its own; with AOT processing those get no @Autowired
+  // field injection, but aware callbacks are still applied.
+  @Override
+  public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  // Also called for entities assembled from the second-level cache.
+  @PostLoad
+  void afterLoad(Tutorial tutorial) {
+    tutorial.setPersistentState(TutorialChangedEvent.Previous.of(tutorial));
+  }
+
+  @PostPersist
+  void afterPersist(Tutorial tutorial) {
+    eventPublisher.publishEvent(TutorialChangedEvent.created(tutorial));
+    tutorial.setPersistentState(TutorialChangedEvent.Previous.of(tutorial));
+  }
+
+  @PostUpdate
+  void afterUpdate(Tutorial tutorial) {
+    eventPublisher.publishEvent(TutorialChangedEvent.updated(tutorial, tutorial.getPersistentState()));
+    tutorial.setPersistentState(TutorialChangedEvent.Previous.of(tutorial));
+  }
+
+  @PostRemove
+  void afterRemove(Tutorial tutorial) {
+    eventPublisher.publishEvent(TutorialChangedEvent.deleted(tutorial.getId(), tutorial.getPersistentState()));
+  }
+}
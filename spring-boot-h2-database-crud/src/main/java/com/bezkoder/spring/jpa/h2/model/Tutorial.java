@@ -1,13 +1,30 @@
 package com.bezkoder.spring.jpa.h2.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.event.TutorialEntityListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.*;
 
 @Entity
 @Table(name = "tutorials")
+@EntityListeners(TutorialEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tutorials")
+// UPDATEs only set the columns that actually changed (plus the version), e.g. a publish toggle writes
+// published alone instead of rewriting title and description.
+@DynamicUpdate
 public class Tutorial {
 
+  // Sequence ids are assigned before the insert, which lets Hibernate group inserts into JDBC batches.
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(generator = TutorialIdGenerator.SEQUENCE_NAME)
+  @GenericGenerator(name = TutorialIdGenerator.SEQUENCE_NAME, type = TutorialIdGenerator.class)
   private long id;
 
   @Column(name = "title")
@@ -19,6 +36,17 @@ public class Tutorial {
   @Column(name = "published")
   private boolean published;
 
+  // Optimistic-locking version, also the basis of the resource ETag. The column default lets schema update
+  // add it to tables that already have rows.
+  @Version
+  @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+  private long version;
+
+  // Title and published flag as last read from or written to the database, kept by TutorialEntityListener so
+  // update and delete events can tell what they replaced.
+  @Transient
+  private TutorialChangedEvent.Previous persistentState;
+
   public Tutorial() {
 
   }
@@ -33,6 +61,10 @@ public class Tutorial {
     return id;
   }
 
+  public void setId(long id) {
+    this.id = id;
+  }
+
   public String getTitle() {
     return title;
   }
@@ -57,6 +89,27 @@ public class Tutorial {
     this.published = isPublished;
   }
 
+  @JsonIgnore
+  public long getVersion() {
+    return version;
+  }
+
+  // Hibernate maintains the version itself; this is for rows read outside of it, e.g. over R2DBC.
+  @JsonIgnore
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  @JsonIgnore
+  public TutorialChangedEvent.Previous getPersistentState() {
+    return persistentState;
+  }
+
+  @JsonIgnore
+  public void setPersistentState(TutorialChangedEvent.Previous persistentState) {
+    this.persistentState = persistentState;
+  }
+
   @Override
   public String toString() {
     return "Tutorial [id=" + id + ", title=" + title + ", desc=" + description + ", published=" + published + "]";
@@ -0,0 +1,74 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of the tutorials table over R2DBC, the reactive counterpart of {@link TutorialRepository}
+ * used by the {@code reactive} profile.
+ *
+ * <p>Rows are streamed as the subscriber requests them, so a slow client holds back the query instead of
+ * buffering the result set or parking a thread. Writes stay on {@link TutorialRepository}: ids, versions, the
+ * second-level cache and change events all come from Hibernate.
+ */
+public class ReactiveTutorialRepository implements DisposableBean {
+  private static final String SELECT = "select id, title, description, published, version from tutorials";
+
+  private static final Function<Readable, Tutorial> ROW_MAPPER = row -> {
+    Tutorial tutorial = new Tutorial(row.get("title", String.class), row.get("description", String.class),
+            Boolean.TRUE.equals(row.get("published", Boolean.class)));
+    tutorial.setId(row.get("id", Long.class));
+    tutorial.setVersion(row.get("version", Long.class));
+    return tutorial;
+  };
+
+  private final ConnectionPool connectionPool;
+  private final DatabaseClient databaseClient;
+
+  public ReactiveTutorialRepository(ConnectionPool connectionPool) {
+    this.connectionPool = connectionPool;
+    this.databaseClient = DatabaseClient.create(connectionPool);
+  }
+
+  public Flux<Tutorial> findAll() {
+    return databaseClient.sql(SELECT + " order by id").map(ROW_MAPPER).all();
+  }
+
+  // Same index range as TutorialRepository.findByPublished, already in id order.
+  public Flux<Tutorial> findByPublished(boolean published) {
+    return databaseClient.sql(SELECT + " where published = :published order by id")
+            .bind("published", published)
+            .map(ROW_MAPPER)
+            .all();
+  }
+
+  public Flux<Tutorial> findByTitleContainingIgnoreCase(String title) {
+    // ILIKE compares character by character, independent of the default locale on either side.
+    return databaseClient.sql(SELECT + " where title ilike :pattern escape '\\' order by id")
+            .bind("pattern", "%" + escapeLike(title) + "%")
+            .map(ROW_MAPPER)
+            .all();
+  }
+
+  public Mono<Tutorial> findById(long id) {
+    return databaseClient.sql(SELECT + " where id = :id").bind("id", id).map(ROW_MAPPER).one();
+  }
+
+  @Override
+  public void destroy() {
+    connectionPool.dispose();
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
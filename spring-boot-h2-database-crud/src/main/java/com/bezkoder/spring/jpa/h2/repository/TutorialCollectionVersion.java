@@ -0,0 +1,15 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+/**
+ * Aggregate fingerprint of a set of tutorials. Any insert, delete or update (which bumps {@code version})
+ * changes at least one of the values, so it can stand in for a collection version without loading rows.
+ */
+public interface TutorialCollectionVersion {
+  long getCount();
+
+  long getMaxId();
+
+  long getIdSum();
+
+  long getVersionSum();
+}
@@ -0,0 +1,13 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+/**
+ * What tutorials are counted by in the statistics, their published flag and the start of their title, with the
+ * number of tutorials that share it.
+ */
+public interface TutorialFacet {
+  boolean getPublished();
+
+  String getTitlePrefix();
+
+  long getCount();
+}
@@ -0,0 +1,59 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.util.StringUtils;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+
+/**
+ * Tutorial attributes that can be selected on their own by {@link TutorialProjectionRepository}. The names are
+ * the JSON property names, which are also the entity attribute names.
+ */
+public enum TutorialField {
+  ID("id", Tutorial::getId),
+  TITLE("title", Tutorial::getTitle),
+  DESCRIPTION("description", Tutorial::getDescription),
+  PUBLISHED("published", Tutorial::isPublished);
+
+  private final String property;
+  private final Function<Tutorial, Object> getter;
+
+  TutorialField(String property, Function<Tutorial, Object> getter) {
+    this.property = property;
+    this.getter = getter;
+  }
+
+  public String property() {
+    return property;
+  }
+
+  public Object get(Tutorial tutorial) {
+    return getter.apply(tutorial);
+  }
+
+  /**
+   * Parses a comma-separated list of property names. {@link #ID} is always included, since clients need it to
+   * address a tutorial and cursors are built from it.
+   *
+   * @throws IllegalArgumentException for an unknown property name
+   */
+  public static Set<TutorialField> parse(String fields) {
+    Set<TutorialField> selected = EnumSet.of(ID);
+    for (String name : StringUtils.commaDelimitedListToStringArray(fields)) {
+      selected.add(of(name.trim()));
+    }
+    return selected;
+  }
+
+  private static TutorialField of(String property) {
+    for (TutorialField field : values()) {
+      if (field.property.equals(property)) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("Unknown tutorial field: " + property);
+  }
+}
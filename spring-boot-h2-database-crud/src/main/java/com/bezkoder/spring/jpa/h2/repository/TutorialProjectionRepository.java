@@ -0,0 +1,24 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Queries that select only some tutorial columns. Rows come back as maps from property name to value, in
+ * {@link TutorialField} order and sorted by id; no entities are instantiated or attached to the persistence
+ * context.
+ */
+public interface TutorialProjectionRepository {
+
+  List<Map<String, Object>> findAllFields(Set<TutorialField> fields);
+
+  // Served from the query cache like findByPublished.
+  List<Map<String, Object>> findFieldsByPublished(Set<TutorialField> fields, boolean published);
+
+  /**
+   * Keyset page of tutorials with an id greater than {@code afterId}, optionally restricted to titles
+   * containing {@code title} (ignoring case).
+   */
+  List<Map<String, Object>> findFieldsPage(Set<TutorialField> fields, String title, long afterId, int limit);
+}
@@ -0,0 +1,93 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+@Transactional(readOnly = true)
+class TutorialProjectionRepositoryImpl implements TutorialProjectionRepository {
+
+  @PersistenceContext
+  EntityManager entityManager;
+
+  @Override
+  public List<Map<String, Object>> findAllFields(Set<TutorialField> fields) {
+    return select(fields, null, null, null, 0, false);
+  }
+
+  @Override
+  public List<Map<String, Object>> findFieldsByPublished(Set<TutorialField> fields, boolean published) {
+    return select(fields, published, null, null, 0, true);
+  }
+
+  @Override
+  public List<Map<String, Object>> findFieldsPage(Set<TutorialField> fields, String title, long afterId, int limit) {
+    return select(fields, null, title, afterId, limit, false);
+  }
+
+  private List<Map<String, Object>> select(Set<TutorialField> fields, Boolean published, String title,
+          Long afterId, int limit, boolean cacheable) {
+    HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = cb.createTupleQuery();
+    Root<Tutorial> tutorial = query.from(Tutorial.class);
+
+    query.multiselect(fields.stream().<Selection<?>>map(
+            field -> tutorial.get(field.property()).alias(field.property())).toList());
+
+    List<Predicate> where = new ArrayList<>();
+    if (published != null) {
+      where.add(cb.equal(tutorial.get("published"), published));
+    }
+    if (title != null) {
+      // Same matches as the derived ...TitleContainingIgnoreCase queries, wildcards in the input included. ilike
+      // compares character by character, so neither side is upper-cased in the default locale (a Turkish one
+      // would turn "i" into a dotted capital I).
+      where.add(cb.ilike(tutorial.get("title"), "%" + escape(title) + "%", '\\'));
+    }
+    if (afterId != null) {
+      where.add(cb.greaterThan(tutorial.get("id"), afterId));
+    }
+    query.where(where.toArray(new Predicate[0])).orderBy(cb.asc(tutorial.get("id")));
+
+    TypedQuery<Tuple> typed = entityManager.createQuery(query);
+    if (limit > 0) {
+      typed.setMaxResults(limit);
+    }
+    if (cacheable) {
+      typed.setHint(HibernateHints.HINT_CACHEABLE, true);
+    }
+
+    List<Tuple> tuples = typed.getResultList();
+    List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+    for (Tuple tuple : tuples) {
+      Map<String, Object> row = new LinkedHashMap<>();
+      for (TutorialField field : fields) {
+        row.put(field.property(), tuple.get(field.property()));
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -1,13 +1,87 @@
 package com.bezkoder.spring.jpa.h2.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.bezkoder.spring.jpa.h2.model.Tutorial;
 
-public interface TutorialRepository extends JpaRepository<Tutorial, Long> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface TutorialRepository extends JpaRepository<Tutorial, Long>, TutorialProjectionRepository {
+  // Served from the query cache; Hibernate invalidates it whenever the tutorials table is written.
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<Tutorial> findByPublished(boolean published);
 
   List<Tutorial> findByTitleContainingIgnoreCase(String title);
+
+  // Collection versions back the list ETags. They are cached like findByPublished, so an unchanged table
+  // answers a conditional GET without touching the database.
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("select count(t) as count, coalesce(max(t.id), 0) as maxId, coalesce(sum(t.id), 0) as idSum, "
+          + "coalesce(sum(t.version), 0) as versionSum from Tutorial t")
+  TutorialCollectionVersion getCollectionVersion();
+
+  // Seeds the statistics view: one row per published flag and title prefix, counted in the database.
+  // Grouped over a derived table: H2 does not accept a bound substring length in both select and group by.
+  @Query("select f.published as published, f.titlePrefix as titlePrefix, count(*) as count from "
+          + "(select t.published as published, substring(t.title, 1, :prefixLength) as titlePrefix from Tutorial t) f "
+          + "group by f.published, f.titlePrefix")
+  List<TutorialFacet> countFacets(int prefixLength);
+
+  // Keyset pagination: callers pass the last id they have seen and a Pageable limiting the page size,
+  // so each page is an index range scan on the primary key instead of an OFFSET over the whole table.
+  List<Tutorial> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+  List<Tutorial> findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String title, long id, Pageable pageable);
+
+  // Cursor-backed stream for full-table reads. Must be consumed inside a transaction and closed;
+  // rows are read-only so Hibernate keeps no dirty-checking snapshots while iterating, and they bypass
+  // the second-level cache so a full scan does not evict the hot entries.
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+          @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+          @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+  })
+  Stream<Tutorial> streamAllByOrderByIdAsc();
+
+  // Set-based deletes: one DELETE statement each, nothing loaded into the persistence context, affected-row
+  // count returned. Hibernate evicts the tutorials cache region and the cached queries on its own, but the
+  // entity listener never sees these rows, so callers publish the matching TutorialChangedEvent themselves.
+  // Only deletes the row if it still has this version, i.e. still holds the state the caller read.
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Tutorial t where t.id = :id and t.version = :version")
+  int deleteInBulkByIdAndVersion(long id, long version);
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Tutorial t where t.id in :ids")
+  int deleteInBulkByIdIn(Collection<Long> ids);
+
+  // Deletes ids in (after, upTo]. Used with findIdsAfter to clear the table in bounded chunks.
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Tutorial t where t.id > :after and t.id <= :upTo")
+  int deleteInBulkByIdRange(long after, long upTo);
+
+  // Which of the ids exist and what their delete events report. The rows stay locked until the transaction
+  // ends, so no update can slip in between this read and the delete.
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select t.id as id, t.title as title, t.published as published from Tutorial t where t.id in :ids")
+  List<TutorialState> lockStatesIn(Collection<Long> ids);
+
+  // Pass PageRequest.of(n - 1, 1) to get the n-th id after the given one, i.e. the upper bound of a chunk.
+  @Query("select t.id from Tutorial t where t.id > :after order by t.id")
+  List<Long> findIdsAfter(long after, Pageable pageable);
 }
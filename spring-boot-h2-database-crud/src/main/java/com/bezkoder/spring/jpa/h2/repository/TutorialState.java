@@ -0,0 +1,12 @@
+package com.bezkoder.spring.jpa.h2.repository;
+
+/**
+ * The columns a set-based delete reports in its {@code TutorialChangedEvent}, read before the rows go.
+ */
+public interface TutorialState {
+  long getId();
+
+  String getTitle();
+
+  boolean getPublished();
+}
@@ -0,0 +1,316 @@
+package com.bezkoder.spring.jpa.h2.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * In-process trigram index over tutorial titles and descriptions.
+ *
+ * <p>Every lower-cased field is split into overlapping 3-character grams and each gram maps to the ids of
+ * the tutorials containing it. A query only has to verify the tutorials listed under its rarest gram, so
+ * lookups cost O(matches) rather than O(rows) while keeping the substring semantics of the old
+ * {@code LIKE '%term%'} search. Queries shorter than a gram cannot be answered and are left to the caller.
+ *
+ * <p>The index is loaded once the application is ready and then kept current from
+ * {@link TutorialChangedEvent}s. It is rebuilt from the database after a bulk delete.
+ */
+@Component
+public class TutorialSearchIndex {
+  private static final Logger logger = LogManager.getLogger(TutorialSearchIndex.class);
+
+  static final int GRAM_LENGTH = 3;
+  private static final int REBUILD_CLEAR_INTERVAL = 1000;
+
+  private static final int EXACT_TITLE_SCORE = 100;
+  private static final int TITLE_PREFIX_SCORE = 50;
+  private static final int TITLE_SCORE = 20;
+  private static final int DESCRIPTION_SCORE = 5;
+
+  private final Map<Long, Document> documents = new HashMap<>();
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Ids changed by events while a rebuild is streaming the table; the event already holds the newer state.
+  private Set<Long> touchedDuringRebuild;
+  // Bumped by every rebuild, so one that is still streaming stops when a newer one starts.
+  private long generation;
+  private volatile boolean ready;
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  @Autowired
+  PlatformTransactionManager transactionManager;
+
+  @PersistenceContext
+  EntityManager entityManager;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    logger.info("Building tutorial search index");
+    long started;
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      postings.clear();
+      touchedDuringRebuild = new HashSet<>();
+      started = ++generation;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    long count = 0;
+    try (Stream<Tutorial> tutorials = tutorialRepository.streamAllByOrderByIdAsc()) {
+      Iterator<Tutorial> iterator = tutorials.iterator();
+      while (iterator.hasNext()) {
+        Tutorial tutorial = iterator.next();
+        lock.writeLock().lock();
+        try {
+          if (generation != started) {
+            break;
+          }
+          if (!touchedDuringRebuild.contains(tutorial.getId())) {
+            add(tutorial.getId(), tutorial.getTitle(), tutorial.getDescription());
+          }
+        } finally {
+          lock.writeLock().unlock();
+        }
+
+        if (++count % REBUILD_CLEAR_INTERVAL == 0) {
+          entityManager.clear();
+        }
+      }
+    } finally {
+      lock.writeLock().lock();
+      try {
+        if (generation == started) {
+          touchedDuringRebuild = null;
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    ready = true;
+    logger.info("Tutorial search index built with {} tutorials", count);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTutorialChanged(TutorialChangedEvent event) {
+    logger.trace("Applying {} to search index", event);
+    switch (event.getType()) {
+      case CREATED, UPDATED -> put(event.getTutorial());
+      case DELETED -> remove(event.getId());
+      case CLEARED -> rebuildAfterBulkDelete();
+    }
+  }
+
+  private void rebuildAfterBulkDelete() {
+    // Called after the deleting transaction has ended, so the rebuild streams the table in a transaction of its own.
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    transaction.setReadOnly(true);
+    transaction.executeWithoutResult(status -> rebuild());
+  }
+
+  /**
+   * Whether {@link #search(String, int)} can answer this query: the index must be loaded and the query must
+   * be at least one gram long.
+   */
+  public boolean supports(String query) {
+    return ready && query != null && normalize(query).length() >= GRAM_LENGTH;
+  }
+
+  /**
+   * Returns the ids of up to {@code limit} tutorials whose title or description contains {@code query},
+   * best matches first: exact title, title prefix, title substring, then description substring. Ties are
+   * broken by id.
+   */
+  public List<Long> search(String query, int limit) {
+    String term = normalize(query);
+    if (term.length() < GRAM_LENGTH || limit < 1) {
+      return Collections.emptyList();
+    }
+
+    PriorityQueue<Hit> best = new PriorityQueue<>(Hit.BY_RANK.reversed());
+    lock.readLock().lock();
+    try {
+      Set<Long> candidates = null;
+      for (String gram : gramsOf(term)) {
+        Set<Long> ids = postings.get(gram);
+        if (ids == null) {
+          return Collections.emptyList();
+        }
+        if (candidates == null || ids.size() < candidates.size()) {
+          candidates = ids;
+        }
+      }
+
+      for (Long id : candidates) {
+        int score = documents.get(id).score(term);
+        if (score == 0) {
+          continue;
+        }
+        best.add(new Hit(id, score));
+        if (best.size() > limit) {
+          best.poll();
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    List<Hit> hits = new ArrayList<>(best);
+    hits.sort(Hit.BY_RANK);
+    List<Long> ids = new ArrayList<>(hits.size());
+    hits.forEach(hit -> ids.add(hit.id));
+    return ids;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  void put(Tutorial tutorial) {
+    lock.writeLock().lock();
+    try {
+      markTouched(tutorial.getId());
+      removeDocument(tutorial.getId());
+      add(tutorial.getId(), tutorial.getTitle(), tutorial.getDescription());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      markTouched(id);
+      removeDocument(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void markTouched(long id) {
+    if (touchedDuringRebuild != null) {
+      touchedDuringRebuild.add(id);
+    }
+  }
+
+  private void add(long id, String title, String description) {
+    Document document = new Document(normalize(title), normalize(description));
+    documents.put(id, document);
+    for (String gram : document.grams()) {
+      postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+    }
+  }
+
+  private void removeDocument(long id) {
+    Document document = documents.remove(id);
+    if (document == null) {
+      return;
+    }
+    for (String gram : document.grams()) {
+      Set<Long> ids = postings.get(gram);
+      if (ids != null && ids.remove(id) && ids.isEmpty()) {
+        postings.remove(gram);
+      }
+    }
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static Set<String> gramsOf(String text) {
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+      grams.add(text.substring(i, i + GRAM_LENGTH));
+    }
+    return grams;
+  }
+
+  private static final class Document {
+    private final String title;
+    private final String description;
+
+    Document(String title, String description) {
+      this.title = title;
+      this.description = description;
+    }
+
+    Set<String> grams() {
+      Set<String> grams = gramsOf(title);
+      grams.addAll(gramsOf(description));
+      return grams;
+    }
+
+    int score(String term) {
+      int score = 0;
+      if (title.equals(term)) {
+        score += EXACT_TITLE_SCORE;
+      } else if (title.startsWith(term)) {
+        score += TITLE_PREFIX_SCORE;
+      } else if (title.contains(term)) {
+        score += TITLE_SCORE;
+      }
+
+      if (description.contains(term)) {
+        score += DESCRIPTION_SCORE;
+      }
+      return score;
+    }
+  }
+
+  private static final class Hit {
+    static final Comparator<Hit> BY_RANK = Comparator.comparingInt((Hit hit) -> hit.score).reversed()
+            .thenComparingLong(hit -> hit.id);
+
+    private final long id;
+    private final int score;
+
+    Hit(long id, int score) {
+      this.id = id;
+      this.score = score;
+    }
+  }
+}
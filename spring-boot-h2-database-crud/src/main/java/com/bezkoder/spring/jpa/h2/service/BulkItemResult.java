@@ -0,0 +1,53 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+/**
+ * Outcome of one item of a bulk request, reported at the same index as the item in the request body.
+ */
+public class BulkItemResult {
+
+  public enum Status {
+    CREATED, UPDATED, DELETED, NOT_FOUND, FAILED
+  }
+
+  private final int index;
+  private final Long id;
+  private final Status status;
+  private final String error;
+
+  private BulkItemResult(int index, Long id, Status status, String error) {
+    this.index = index;
+    this.id = id;
+    this.status = status;
+    this.error = error;
+  }
+
+  public static BulkItemResult of(int index, long id, Status status) {
+    return new BulkItemResult(index, id, status, null);
+  }
+
+  public static BulkItemResult failed(int index, Long id, String error) {
+    return new BulkItemResult(index, id, Status.FAILED, error);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkItemResult [index=" + index + ", id=" + id + ", status=" + status + ", error=" + error + "]";
+  }
+
+}
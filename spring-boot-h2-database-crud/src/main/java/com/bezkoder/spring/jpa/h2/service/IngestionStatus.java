@@ -0,0 +1,58 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+/**
+ * Where a create accepted by {@link TutorialIngestionService} stands, looked up by its tracking id.
+ */
+public class IngestionStatus {
+
+  public enum Status {
+    QUEUED, CREATED, FAILED
+  }
+
+  private final String trackingId;
+  private final Status status;
+  private final Long id;
+  private final String error;
+
+  private IngestionStatus(String trackingId, Status status, Long id, String error) {
+    this.trackingId = trackingId;
+    this.status = status;
+    this.id = id;
+    this.error = error;
+  }
+
+  public static IngestionStatus queued(String trackingId) {
+    return new IngestionStatus(trackingId, Status.QUEUED, null, null);
+  }
+
+  public static IngestionStatus created(String trackingId, long id) {
+    return new IngestionStatus(trackingId, Status.CREATED, id, null);
+  }
+
+  public static IngestionStatus failed(String trackingId, String error) {
+    return new IngestionStatus(trackingId, Status.FAILED, null, error);
+  }
+
+  public String getTrackingId() {
+    return trackingId;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return "IngestionStatus [trackingId=" + trackingId + ", status=" + status + ", id=" + id + ", error=" + error
+            + "]";
+  }
+
+}
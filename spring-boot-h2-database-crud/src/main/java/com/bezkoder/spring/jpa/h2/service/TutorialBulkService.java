@@ -0,0 +1,228 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.bezkoder.spring.jpa.h2.repository.TutorialState;
+import com.bezkoder.spring.jpa.h2.service.BulkItemResult.Status;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Applies bulk creates, updates and deletes in chunks. Each chunk runs in its own transaction and is flushed
+ * in one go, so Hibernate can send its statements as JDBC batches (see {@code hibernate.jdbc.batch_size}).
+ * A failing chunk is rolled back and reported item by item without affecting the other chunks.
+ *
+ * <p>Deletes run as set-based JPQL statements and publish their own {@link TutorialChangedEvent}s, since the
+ * entity listener does not see them. For bulk deletes, the title and published flag those events report are read
+ * (and locked) just before, in the query that finds which ids exist.
+ */
+@Service
+public class TutorialBulkService {
+  private static final Logger logger = LogManager.getLogger(TutorialBulkService.class);
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  @Autowired
+  PlatformTransactionManager transactionManager;
+
+  @PersistenceContext
+  EntityManager entityManager;
+
+  @Autowired
+  ApplicationEventPublisher eventPublisher;
+
+  @Value("${tutorials.bulk.chunk-size:500}")
+  int chunkSize;
+
+  @Value("${tutorials.delete.chunk-size:10000}")
+  int deleteChunkSize;
+
+  /**
+   * Deletes one tutorial with a DELETE statement that only matches the version whose state its event reports.
+   * When the tutorial is in the second-level cache, that state comes from there and the DELETE is the only
+   * statement; otherwise it is read first with a plain SELECT, without a lock. If the tutorial changed in between,
+   * nothing is deleted and the committed state is read again.
+   *
+   * @return the number of rows deleted, 0 if there was no such tutorial
+   */
+  public int deleteById(long id) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      Map<String, Object> hints = Map.of();
+      while (true) {
+        Tutorial tutorial = entityManager.find(Tutorial.class, id, hints);
+        if (tutorial == null) {
+          return 0;
+        }
+        if (tutorialRepository.deleteInBulkByIdAndVersion(id, tutorial.getVersion()) == 1) {
+          eventPublisher.publishEvent(TutorialChangedEvent.deleted(id, TutorialChangedEvent.Previous.of(tutorial)));
+          return 1;
+        }
+
+        // Updated or deleted since it was cached or read.
+        hints = Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+      }
+    });
+  }
+
+  /**
+   * Empties the table in primary-key ranges of {@code tutorials.delete.chunk-size} rows, one transaction per
+   * range, so the database undo log stays bounded however large the table is.
+   *
+   * <p>A {@link TutorialChangedEvent#cleared() cleared} event is published once the ranges are done, also when one
+   * of them fails after others committed. Read models reload from the database on it, so they drop what the
+   * committed ranges deleted and keep what was created meanwhile.
+   *
+   * @return the number of rows deleted
+   */
+  public long deleteEverything() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    long deleted = 0;
+    long after = Long.MIN_VALUE;
+    boolean last = false;
+
+    try {
+      while (!last) {
+        List<Long> bound = tutorialRepository.findIdsAfter(after, PageRequest.of(deleteChunkSize - 1, 1));
+        last = bound.isEmpty();
+        long from = after;
+        long upTo = last ? Long.MAX_VALUE : bound.get(0);
+        int chunk = transaction.execute(status -> tutorialRepository.deleteInBulkByIdRange(from, upTo));
+        logger.debug("Deleted {} tutorials with ID in ({}, {}]", chunk, from, upTo);
+        deleted += chunk;
+        after = upTo;
+      }
+    } finally {
+      eventPublisher.publishEvent(TutorialChangedEvent.cleared());
+    }
+    return deleted;
+  }
+
+  public List<BulkItemResult> createAll(List<Tutorial> tutorials) {
+    return inChunks(tutorials.size(), (from, to, results) -> {
+      List<Tutorial> created = new ArrayList<>(to - from);
+      for (int i = from; i < to; i++) {
+        Tutorial tutorial = tutorials.get(i);
+        // Same rules as a single create: clients cannot pick the id or publish on creation.
+        Tutorial _tutorial = new Tutorial(tutorial.getTitle(), tutorial.getDescription(), false);
+        entityManager.persist(_tutorial);
+        created.add(_tutorial);
+      }
+
+      entityManager.flush();
+      for (int i = from; i < to; i++) {
+        results[i] = BulkItemResult.of(i, created.get(i - from).getId(), Status.CREATED);
+      }
+    }, tutorials);
+  }
+
+  public List<BulkItemResult> updateAll(List<Tutorial> tutorials) {
+    return inChunks(tutorials.size(), (from, to, results) -> {
+      Map<Long, Tutorial> existing = loadChunk(tutorials.subList(from, to).stream().map(Tutorial::getId).toList());
+      for (int i = from; i < to; i++) {
+        Tutorial tutorial = tutorials.get(i);
+        Tutorial _tutorial = existing.get(tutorial.getId());
+        if (_tutorial == null) {
+          results[i] = BulkItemResult.of(i, tutorial.getId(), Status.NOT_FOUND);
+          continue;
+        }
+
+        _tutorial.setTitle(tutorial.getTitle());
+        _tutorial.setDescription(tutorial.getDescription());
+        _tutorial.setPublished(tutorial.isPublished());
+        results[i] = BulkItemResult.of(i, tutorial.getId(), Status.UPDATED);
+      }
+
+      entityManager.flush();
+    }, tutorials);
+  }
+
+  public List<BulkItemResult> deleteAll(List<Long> ids) {
+    return inChunks(ids.size(), (from, to, results) -> {
+      Map<Long, TutorialState> existing = new HashMap<>();
+      tutorialRepository.lockStatesIn(ids.subList(from, to)).forEach(state -> existing.put(state.getId(), state));
+      if (!existing.isEmpty()) {
+        tutorialRepository.deleteInBulkByIdIn(existing.keySet());
+      }
+
+      for (int i = from; i < to; i++) {
+        TutorialState state = existing.remove(ids.get(i));
+        if (state == null) {
+          results[i] = BulkItemResult.of(i, ids.get(i), Status.NOT_FOUND);
+          continue;
+        }
+
+        // Published inside the chunk transaction, so listeners only see it if the chunk commits.
+        eventPublisher.publishEvent(TutorialChangedEvent.deleted(ids.get(i), previous(state)));
+        results[i] = BulkItemResult.of(i, ids.get(i), Status.DELETED);
+      }
+    }, ids);
+  }
+
+  private static TutorialChangedEvent.Previous previous(TutorialState state) {
+    return new TutorialChangedEvent.Previous(state.getTitle(), state.getPublished());
+  }
+
+  private Map<Long, Tutorial> loadChunk(List<Long> ids) {
+    Map<Long, Tutorial> byId = new HashMap<>();
+    tutorialRepository.findAllById(ids).forEach(tutorial -> byId.put(tutorial.getId(), tutorial));
+    return byId;
+  }
+
+  private List<BulkItemResult> inChunks(int size, ChunkWork work, List<?> items) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    BulkItemResult[] results = new BulkItemResult[size];
+
+    for (int from = 0; from < size; from += chunkSize) {
+      int start = from;
+      int end = Math.min(from + chunkSize, size);
+      try {
+        transaction.executeWithoutResult(status -> {
+          work.apply(start, end, results);
+          // Keep the persistence context bounded by the chunk size, not the request size.
+          entityManager.clear();
+        });
+        logger.debug("Applied bulk chunk [{}, {})", start, end);
+      } catch (Exception e) {
+        logger.warn("Bulk chunk [{}, {}) rolled back", start, end, e);
+        for (int i = start; i < end; i++) {
+          results[i] = BulkItemResult.failed(i, idOf(items.get(i)), e.getMessage());
+        }
+      }
+    }
+
+    return Arrays.asList(results);
+  }
+
+  private static Long idOf(Object item) {
+    if (item instanceof Tutorial tutorial) {
+      return tutorial.getId() == 0 ? null : tutorial.getId();
+    }
+    return (Long) item;
+  }
+
+  @FunctionalInterface
+  private interface ChunkWork {
+    void apply(int from, int to, BulkItemResult[] results);
+  }
+}
@@ -0,0 +1,123 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangeLog;
+import com.bezkoder.spring.jpa.h2.event.TutorialChangeLog.Change;
+
+/**
+ * Streams the {@link TutorialChangeLog} to server-sent-event subscribers.
+ *
+ * <p>Every event carries an id of the form {@code epoch.sequence}, which browsers send back as
+ * {@code Last-Event-ID} when they reconnect; the stream then resumes right after it. A new subscriber first gets
+ * a {@code ready} event marking the current position. When the log cannot resume a subscriber (the id has been
+ * evicted, is from before a restart or is malformed) it gets a {@code reset} event instead and should re-read the
+ * list once; either way it is then only sent changes, never rows.
+ *
+ * <p>Each subscriber is served by its own virtual thread reading the shared log, so a slow client only delays
+ * itself. Writes through {@link SseEmitter} are synchronized, so one blocked on a stalled client pins its carrier
+ * thread until the server's write timeout drops the connection.
+ */
+@Service
+public class TutorialChangeStreamService {
+  private static final Logger logger = LogManager.getLogger(TutorialChangeStreamService.class);
+
+  @Autowired
+  TutorialChangeLog tutorialChangeLog;
+
+  @Value("${tutorials.changes.timeout:30m}")
+  Duration timeout;
+
+  @Value("${tutorials.changes.heartbeat:15s}")
+  Duration heartbeat;
+
+  public SseEmitter subscribe(String lastEventId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Thread subscriber = Thread.ofVirtual().name("tutorial-changes").unstarted(() -> stream(emitter, lastEventId));
+    emitter.onCompletion(subscriber::interrupt);
+    emitter.onTimeout(subscriber::interrupt);
+    emitter.onError(e -> subscriber.interrupt());
+    subscriber.start();
+    return emitter;
+  }
+
+  private void stream(SseEmitter emitter, String lastEventId) {
+    try {
+      long position;
+      Optional<Long> resumeFrom = resumePosition(lastEventId);
+      if (lastEventId == null) {
+        position = tutorialChangeLog.getLastSequence();
+        send(emitter, "ready", position, "{}");
+      } else if (resumeFrom.isEmpty()) {
+        position = reset(emitter, lastEventId);
+      } else {
+        position = resumeFrom.get();
+        logger.debug("Resuming change stream after {}", lastEventId);
+      }
+
+      while (true) {
+        Optional<List<Change>> changes = tutorialChangeLog.readAfter(position);
+        if (changes.isEmpty()) {
+          position = reset(emitter, eventId(position));
+          continue;
+        }
+        for (Change change : changes.get()) {
+          send(emitter, change.type().name().toLowerCase(), change.sequence(), change.data());
+          position = change.sequence();
+        }
+
+        if (!tutorialChangeLog.awaitAfter(position, heartbeat.toMillis(), TimeUnit.MILLISECONDS)) {
+          // Lets proxies keep the connection open and surfaces clients that have gone away.
+          emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+      }
+    } catch (InterruptedException e) {
+      logger.debug("Change stream closed");
+    } catch (IOException | IllegalStateException e) {
+      logger.debug("Change stream subscriber went away: {}", e.getMessage());
+      emitter.complete();
+    }
+  }
+
+  private long reset(SseEmitter emitter, String from) throws IOException {
+    long position = tutorialChangeLog.getLastSequence();
+    logger.info("Change stream cannot resume after {}, sending reset", from);
+    send(emitter, "reset", position, "{}");
+    return position;
+  }
+
+  private void send(SseEmitter emitter, String name, long sequence, String data) throws IOException {
+    emitter.send(SseEmitter.event().id(eventId(sequence)).name(name).data(data, MediaType.APPLICATION_JSON));
+  }
+
+  private String eventId(long sequence) {
+    return tutorialChangeLog.getEpoch() + "." + sequence;
+  }
+
+  private Optional<Long> resumePosition(String lastEventId) {
+    if (lastEventId == null) {
+      return Optional.empty();
+    }
+    String[] parts = lastEventId.split("\\.");
+    try {
+      if (parts.length != 2 || Long.parseLong(parts[0]) != tutorialChangeLog.getEpoch()) {
+        return Optional.empty();
+      }
+      return Optional.of(Long.parseLong(parts[1]));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes the whole tutorials table as newline-delimited JSON. Rows are pulled through a JDBC cursor and
+ * detached as soon as they are written, so heap usage does not depend on the table size.
+ */
+@Service
+public class TutorialExportService {
+  private static final Logger logger = LogManager.getLogger(TutorialExportService.class);
+
+  private static final int FLUSH_INTERVAL = 500;
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @PersistenceContext
+  EntityManager entityManager;
+
+  @Transactional(readOnly = true)
+  public long exportNdjson(OutputStream out) throws IOException {
+    ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    long count = 0;
+
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+         Stream<Tutorial> tutorials = tutorialRepository.streamAllByOrderByIdAsc()) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      // Records are terminated explicitly below; the default root separator would indent every other line.
+      generator.setRootValueSeparator(null);
+      Iterator<Tutorial> iterator = tutorials.iterator();
+
+      while (iterator.hasNext()) {
+        Tutorial tutorial = iterator.next();
+        writer.writeValue(generator, tutorial);
+        generator.writeRaw('\n');
+        entityManager.detach(tutorial);
+
+        if (++count % FLUSH_INTERVAL == 0) {
+          generator.flush();
+          logger.trace("Exported {} tutorials so far", count);
+        }
+      }
+    }
+
+    return count;
+  }
+}
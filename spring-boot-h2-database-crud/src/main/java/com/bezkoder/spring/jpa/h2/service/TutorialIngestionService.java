@@ -0,0 +1,171 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.service.BulkItemResult.Status;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Write-behind creation of tutorials. {@link #submit} only puts the tutorial on a bounded queue and returns a
+ * tracking id; a single writer thread drains the queue and inserts what it finds through
+ * {@link TutorialBulkService#createAll}, up to {@code tutorials.ingest.batch-size} rows per transaction. Under a
+ * burst the queue is never empty, so batches fill up and the commit (and fsync) cost is shared by the batch
+ * instead of being paid by every create.
+ *
+ * <p>A full queue is the backpressure signal: {@link #submit} waits at most
+ * {@code tutorials.ingest.enqueue-timeout} for room and otherwise rejects the create. Accepted creates are only
+ * in memory until their batch commits; they are drained on shutdown but lost if the process dies.
+ */
+@Service
+public class TutorialIngestionService implements SmartLifecycle {
+  private static final Logger logger = LogManager.getLogger(TutorialIngestionService.class);
+
+  private static final long POLL_MILLIS = 100;
+
+  @Autowired
+  TutorialBulkService tutorialBulkService;
+
+  @Autowired
+  MeterRegistry meterRegistry;
+
+  @Value("${tutorials.ingest.batch-size:500}")
+  int batchSize;
+
+  @Value("${tutorials.ingest.enqueue-timeout:50ms}")
+  Duration enqueueTimeout;
+
+  private final BlockingQueue<Pending> queue;
+  private final Map<String, IngestionStatus> statuses;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public TutorialIngestionService(@Value("${tutorials.ingest.queue-capacity:10000}") int queueCapacity,
+          @Value("${tutorials.ingest.status-retention:100000}") int statusRetention) {
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    // Oldest statuses are forgotten first; polling for one of them answers 404.
+    this.statuses = Collections.synchronizedMap(new LinkedHashMap<>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, IngestionStatus> eldest) {
+        return size() > statusRetention;
+      }
+    });
+  }
+
+  /**
+   * @return the queued status with its tracking id, or empty if the queue stayed full (or the service is
+   *         stopping) and the create was not accepted
+   */
+  public Optional<IngestionStatus> submit(Tutorial tutorial) throws InterruptedException {
+    if (!running) {
+      return Optional.empty();
+    }
+
+    IngestionStatus status = IngestionStatus.queued(UUID.randomUUID().toString());
+    // Recorded first, so a client polling right after the 202 never sees an unknown id.
+    statuses.put(status.getTrackingId(), status);
+    if (!queue.offer(new Pending(status.getTrackingId(), tutorial), enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+      statuses.remove(status.getTrackingId());
+      return Optional.empty();
+    }
+    return Optional.of(status);
+  }
+
+  public Optional<IngestionStatus> getStatus(String trackingId) {
+    return Optional.ofNullable(statuses.get(trackingId));
+  }
+
+  @Override
+  public void start() {
+    Gauge.builder("tutorials.ingest.queue.size", queue, BlockingQueue::size)
+            .description("Creates accepted but not yet written")
+            .register(meterRegistry);
+    running = true;
+    writer = new Thread(this::drain, "tutorial-ingest");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  // Stops accepting, then writes out what is still queued before the datasource is closed.
+  @Override
+  public void stop() {
+    running = false;
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    logger.info("Ingestion writer stopped, {} creates left unwritten", queue.size());
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // Started before and stopped after the web server, so no request can be accepted while the writer is down.
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 2048;
+  }
+
+  private void drain() {
+    List<Pending> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        // Never let one bad batch kill the writer; its creates are reported as failed.
+        logger.error("Error writing ingestion batch of {} tutorials", batch.size(), e);
+        batch.forEach(pending -> statuses.put(pending.trackingId(),
+                IngestionStatus.failed(pending.trackingId(), e.getMessage())));
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Pending> batch) {
+    List<BulkItemResult> results = tutorialBulkService.createAll(batch.stream().map(Pending::tutorial).toList());
+    for (int i = 0; i < batch.size(); i++) {
+      String trackingId = batch.get(i).trackingId();
+      BulkItemResult result = results.get(i);
+      statuses.put(trackingId, result.getStatus() == Status.CREATED
+              ? IngestionStatus.created(trackingId, result.getId())
+              : IngestionStatus.failed(trackingId, result.getError()));
+    }
+    logger.debug("Wrote ingestion batch of {} tutorials, {} still queued", batch.size(), queue.size());
+  }
+
+  private record Pending(String trackingId, Tutorial tutorial) {
+  }
+}
@@ -0,0 +1,57 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.bezkoder.spring.jpa.h2.search.TutorialSearchIndex;
+
+/**
+ * Ranked title/description search backed by {@link TutorialSearchIndex}. Queries the index cannot answer
+ * (shorter than a trigram, or while the index is still loading) fall back to a bounded title scan.
+ */
+@Service
+public class TutorialSearchService {
+  private static final Logger logger = LogManager.getLogger(TutorialSearchService.class);
+
+  @Autowired
+  TutorialSearchIndex tutorialSearchIndex;
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  public List<Tutorial> search(String query, int limit) {
+    if (!tutorialSearchIndex.supports(query)) {
+      logger.debug("Search index cannot answer '{}', scanning titles instead", query);
+      return tutorialRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(query, 0L,
+              PageRequest.of(0, limit));
+    }
+
+    List<Long> ids = tutorialSearchIndex.search(query, limit);
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    // findAllById does not preserve order, so put the rows back in rank order.
+    Map<Long, Tutorial> byId = tutorialRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Tutorial::getId, Function.identity()));
+    List<Tutorial> tutorials = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      Tutorial tutorial = byId.get(id);
+      if (tutorial != null) {
+        tutorials.add(tutorial);
+      }
+    }
+    return tutorials;
+  }
+}
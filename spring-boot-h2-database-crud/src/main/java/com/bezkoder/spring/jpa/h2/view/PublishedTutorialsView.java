@@ -0,0 +1,208 @@
+package com.bezkoder.spring.jpa.h2.view;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pre-serialized JSON of the published tutorials, in id order.
+ *
+ * <p>Each published tutorial is kept as its serialized JSON fragment and {@link TutorialChangedEvent}s only
+ * re-serialize the tutorial that changed. The full response body, its gzip encoding and their ETags are
+ * assembled from the fragments on the first read after a change and then shared by every request until the
+ * next one, so reads cost neither a query nor serialization.
+ */
+@Component
+public class PublishedTutorialsView {
+  private static final Logger logger = LogManager.getLogger(PublishedTutorialsView.class);
+
+  private final Map<Long, byte[]> fragments = new TreeMap<>();
+  // A Lock rather than synchronized: the first snapshot() queries the database while holding it, which would
+  // pin the carrier thread of a virtual thread.
+  private final Lock lock = new ReentrantLock();
+  private boolean loaded;
+  private volatile Snapshot snapshot;
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    snapshot();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTutorialChanged(TutorialChangedEvent event) {
+    lock.lock();
+    try {
+      apply(event);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void apply(TutorialChangedEvent event) {
+    if (!loaded) {
+      // The initial load reads the committed state, which already includes this change.
+      return;
+    }
+
+    logger.trace("Applying {} to published view", event);
+    switch (event.getType()) {
+      case CREATED, UPDATED -> {
+        Tutorial tutorial = event.getTutorial();
+        if (tutorial.isPublished()) {
+          fragments.put(tutorial.getId(), serialize(tutorial));
+        } else if (fragments.remove(tutorial.getId()) == null) {
+          // An unpublished tutorial that was not in the view: the published body is unchanged.
+          return;
+        }
+      }
+      case DELETED -> {
+        if (fragments.remove(event.getId()) == null) {
+          return;
+        }
+      }
+      case CLEARED -> {
+        // Reloaded on the next read, which also picks up tutorials created since the bulk delete.
+        fragments.clear();
+        loaded = false;
+      }
+    }
+    snapshot = null;
+  }
+
+  /**
+   * Returns the current body of the published tutorials, assembling it if the view changed since the last
+   * call.
+   */
+  public Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current != null) {
+      return current;
+    }
+
+    lock.lock();
+    try {
+      if (snapshot == null) {
+        if (!loaded) {
+          load();
+        }
+        snapshot = assemble();
+      }
+      return snapshot;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void load() {
+    logger.info("Loading published tutorials view");
+    for (Tutorial tutorial : tutorialRepository.findByPublished(true)) {
+      fragments.put(tutorial.getId(), serialize(tutorial));
+    }
+    loaded = true;
+    logger.info("Published tutorials view loaded with {} tutorials", fragments.size());
+  }
+
+  private Snapshot assemble() {
+    int length = 2 + Math.max(0, fragments.size() - 1);
+    for (byte[] fragment : fragments.values()) {
+      length += fragment.length;
+    }
+
+    byte[] json = new byte[length];
+    int position = 0;
+    json[position++] = '[';
+    for (byte[] fragment : fragments.values()) {
+      if (position > 1) {
+        json[position++] = ',';
+      }
+      System.arraycopy(fragment, 0, json, position, fragment.length);
+      position += fragment.length;
+    }
+    json[position] = ']';
+
+    logger.debug("Assembled published view of {} tutorials, {} bytes", fragments.size(), json.length);
+    return new Snapshot(fragments.size(), json, gzip(json), DigestUtils.md5DigestAsHex(json));
+  }
+
+  private byte[] serialize(Tutorial tutorial) {
+    try {
+      return objectMapper.writeValueAsBytes(tutorial);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to serialize tutorial " + tutorial.getId(), e);
+    }
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * An immutable rendering of the view. The ETags are strong: they are derived from the body bytes and the
+   * gzip encoding gets its own tag.
+   */
+  public static final class Snapshot {
+    private final int size;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String hash;
+
+    public Snapshot(int size, byte[] json, byte[] gzip, String hash) {
+      this.size = size;
+      this.json = json;
+      this.gzip = gzip;
+      this.hash = hash;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public byte[] getJson() {
+      return json;
+    }
+
+    public byte[] getGzip() {
+      return gzip;
+    }
+
+    public String getETag() {
+      return "\"" + hash + "\"";
+    }
+
+    public String getGzipETag() {
+      return "\"" + hash + "-gzip\"";
+    }
+  }
+}
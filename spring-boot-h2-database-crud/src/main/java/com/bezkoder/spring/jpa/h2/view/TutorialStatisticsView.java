@@ -0,0 +1,208 @@
+package com.bezkoder.spring.jpa.h2.view;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.repository.TutorialFacet;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+
+/**
+ * Tutorial counts for dashboards: in total, published and unpublished, and by title prefix (the first
+ * {@code tutorials.stats.prefix-length} characters of the title, upper-cased).
+ *
+ * <p>The counts are seeded with one {@code group by} query and then kept current from
+ * {@link TutorialChangedEvent}s, so every write path is covered and a read costs neither a query nor a scan.
+ * Only one count per facet (published flag and prefix) is held, however many tutorials there are: updates and
+ * deletes carry the state they replaced, which tells the facet to take the tutorial out of.
+ *
+ * <p>Events are counted on top of the seed, so the seed has to be taken before anything can write. It is
+ * loaded once all singletons exist, which is before the web server accepts requests, also when beans are
+ * otherwise initialized lazily.
+ *
+ * <p>Events are published after commit by the writing threads, so they can arrive out of order: an update can be
+ * applied before the create it follows. A count may then go below zero for a while and comes back once the other
+ * event arrives. Events racing with a seed can still be counted twice, so the seed is taken again on the first read
+ * after {@code tutorials.stats.reseed-interval}, and after a bulk delete.
+ */
+@Component
+@Lazy(false)
+public class TutorialStatisticsView implements SmartInitializingSingleton {
+  private static final Logger logger = LogManager.getLogger(TutorialStatisticsView.class);
+
+  private record Facet(boolean published, String titlePrefix) {
+  }
+
+  private final int prefixLength;
+  private final long reseedIntervalNanos;
+  private final Map<Facet, Long> counts = new HashMap<>();
+  // A Lock rather than synchronized: the first statistics() queries the database while holding it.
+  private final Lock lock = new ReentrantLock();
+  private boolean loaded;
+  private volatile long loadedAt;
+  private volatile Statistics statistics;
+
+  @Autowired
+  TutorialRepository tutorialRepository;
+
+  public TutorialStatisticsView(@Value("${tutorials.stats.prefix-length:1}") int prefixLength,
+          @Value("${tutorials.stats.reseed-interval:10m}") Duration reseedInterval) {
+    this.prefixLength = prefixLength;
+    this.reseedIntervalNanos = reseedInterval.toNanos();
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    statistics();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTutorialChanged(TutorialChangedEvent event) {
+    lock.lock();
+    try {
+      apply(event);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void apply(TutorialChangedEvent event) {
+    if (!loaded) {
+      // The seed reads the committed state, which already includes this change.
+      return;
+    }
+
+    logger.trace("Applying {} to statistics", event);
+    boolean changed = switch (event.getType()) {
+      case CREATED -> move(null, facet(event.getTutorial().isPublished(), event.getTutorial().getTitle()));
+      case UPDATED -> move(facet(event.getPrevious()),
+              facet(event.getTutorial().isPublished(), event.getTutorial().getTitle()));
+      case DELETED -> move(facet(event.getPrevious()), null);
+      case CLEARED -> {
+        // Re-seeded on the next read, which also counts tutorials created since the bulk delete.
+        counts.clear();
+        loaded = false;
+        yield true;
+      }
+    };
+    if (changed) {
+      statistics = null;
+    }
+  }
+
+  /**
+   * Returns the current counts, summing them up by facet if anything changed since the last call, and seeding
+   * them again if the last seed is older than the reseed interval.
+   */
+  public Statistics statistics() {
+    Statistics current = statistics;
+    if (current != null && !reseedDue()) {
+      return current;
+    }
+
+    lock.lock();
+    try {
+      if (loaded && reseedDue()) {
+        counts.clear();
+        loaded = false;
+        statistics = null;
+      }
+      if (statistics == null) {
+        if (!loaded) {
+          load();
+        }
+        statistics = assemble();
+      }
+      return statistics;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void load() {
+    logger.info("Loading tutorial statistics");
+    for (TutorialFacet row : tutorialRepository.countFacets(prefixLength)) {
+      // The database groups prefixes case-sensitively; they are merged here once upper-cased.
+      counts.merge(facet(row.getPublished(), row.getTitlePrefix()), row.getCount(), Long::sum);
+    }
+    loaded = true;
+    loadedAt = System.nanoTime();
+    logger.info("Tutorial statistics loaded with {} facets", counts.size());
+  }
+
+  private boolean reseedDue() {
+    return System.nanoTime() - loadedAt >= reseedIntervalNanos;
+  }
+
+  /**
+   * Moves one tutorial from the {@code from} count to the {@code to} count; either is null for a tutorial that
+   * is only added or only taken out. A count that reaches zero is removed; one that goes below zero is kept, since
+   * the event that brings it back may still be on its way.
+   *
+   * @return whether any count changed
+   */
+  private boolean move(Facet from, Facet to) {
+    if (Objects.equals(from, to)) {
+      return false;
+    }
+    if (from != null) {
+      counts.merge(from, -1L, TutorialStatisticsView::sumOrNull);
+    }
+    if (to != null) {
+      counts.merge(to, 1L, TutorialStatisticsView::sumOrNull);
+    }
+    return true;
+  }
+
+  private static Long sumOrNull(Long count, Long delta) {
+    long sum = count + delta;
+    return sum == 0 ? null : sum;
+  }
+
+  private Facet facet(TutorialChangedEvent.Previous previous) {
+    return facet(previous.published(), previous.title());
+  }
+
+  private Facet facet(boolean published, String title) {
+    String prefix = title == null ? "" : title.substring(0, Math.min(prefixLength, title.length()));
+    return new Facet(published, prefix.toUpperCase(Locale.ROOT));
+  }
+
+  private Statistics assemble() {
+    long total = 0;
+    long published = 0;
+    Map<String, Long> titlePrefixes = new TreeMap<>();
+    for (Map.Entry<Facet, Long> count : counts.entrySet()) {
+      total += count.getValue();
+      if (count.getKey().published()) {
+        published += count.getValue();
+      }
+      titlePrefixes.merge(count.getKey().titlePrefix(), count.getValue(), Long::sum);
+    }
+
+    logger.debug("Assembled statistics of {} tutorials from {} facets", total, counts.size());
+    return new Statistics(total, published, total - published, Collections.unmodifiableMap(titlePrefixes));
+  }
+
+  /**
+   * Counts at one point in time; {@code titlePrefixes} is sorted by prefix.
+   */
+  public record Statistics(long total, long published, long unpublished, Map<String, Long> titlePrefixes) {
+  }
+}
@@ -0,0 +1,11 @@
+-- Initial schema. Databases created by older versions through ddl-auto=update are baselined at this version
+-- and skip it; their sequence still has the old increment of 50 and is aligned by TutorialSequenceUpgrader.
+create sequence tutorials_seq start with 1 increment by 100;
+
+create table tutorials (
+  id bigint not null,
+  description varchar(255),
+  published boolean,
+  title varchar(255),
+  primary key (id)
+);
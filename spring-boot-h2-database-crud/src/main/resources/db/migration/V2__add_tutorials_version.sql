@@ -0,0 +1,2 @@
+-- Optimistic-locking version. Databases that ran with ddl-auto=update after the column was mapped already have it.
+alter table tutorials add column if not exists version bigint default 0 not null;
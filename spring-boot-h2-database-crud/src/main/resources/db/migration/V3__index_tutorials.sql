@@ -0,0 +1,7 @@
+-- findByPublished and the published view: an index range on published, already in id order.
+create index if not exists tutorials_published_id_idx on tutorials (published, id);
+
+-- There is deliberately no case-insensitive title index. Every title filter is an infix match (LIKE '%x%'), which
+-- no B-tree index can serve: ranked searches go to the in-process search index and title-filtered pages walk the
+-- primary key. H2 also has no expression indexes, so lower(title) would need a generated column that stores every
+-- title a second time on each write.
@@ -0,0 +1,96 @@
+package com.bezkoder.spring.jpa.h2;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class TutorialCacheIntegrationTest {
+
+    @Autowired
+    private TutorialRepository tutorialRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        tutorialRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void whenFindByIdTwice_thenSecondReadIsACacheHit() {
+        Tutorial tutorial = tutorialRepository.save(new Tutorial("Cached", "Description", false));
+
+        tutorialRepository.findById(tutorial.getId());
+        tutorialRepository.findById(tutorial.getId());
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void whenUpdated_thenCacheServesNewState() {
+        Tutorial tutorial = tutorialRepository.save(new Tutorial("Before", "Description", false));
+        tutorialRepository.findById(tutorial.getId());
+
+        tutorial.setTitle("After");
+        tutorialRepository.save(tutorial);
+
+        assertEquals("After", tutorialRepository.findById(tutorial.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    public void whenFindByPublishedTwice_thenSecondReadIsAQueryCacheHit() {
+        tutorialRepository.save(new Tutorial("Published", "Description", true));
+
+        assertEquals(1, tutorialRepository.findByPublished(true).size());
+        assertEquals(1, tutorialRepository.findByPublished(true).size());
+
+        assertEquals(1, statistics.getQueryCachePutCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void whenTableChanges_thenQueryCacheIsInvalidated() {
+        Tutorial tutorial = tutorialRepository.save(new Tutorial("Published", "Description", true));
+        assertEquals(1, tutorialRepository.findByPublished(true).size());
+
+        tutorialRepository.deleteById(tutorial.getId());
+
+        assertTrue(tutorialRepository.findByPublished(true).isEmpty());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+
+        tutorialRepository.save(new Tutorial("Published again", "Description", true));
+        tutorialRepository.deleteAll();
+        assertTrue(tutorialRepository.findByPublished(true).isEmpty());
+        assertFalse(tutorialRepository.findById(tutorial.getId()).isPresent());
+    }
+
+    @Test
+    public void whenCacheUsed_thenHitAndMissMetricsArePublished() {
+        Tutorial tutorial = tutorialRepository.save(new Tutorial("Metrics", "Description", false));
+        tutorialRepository.findById(tutorial.getId());
+
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "miss").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.cache.query.requests").tag("result", "hit").functionCounter());
+    }
+}
@@ -7,9 +7,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +59,83 @@ public class TutorialControllerRestIntegrationTest {
         assertNotNull(response.getBody());
     }
 
+    @Test
+    public void testIngestTutorial() throws InterruptedException {
+        Tutorial tutorial = new Tutorial("Ingested Tutorial", "Description for Ingestion Test", true);
+        ResponseEntity<Map> accepted = restTemplate.postForEntity(BASE_URL + "/ingest", tutorial, Map.class);
+
+        assertEquals(202, accepted.getStatusCodeValue());
+        assertNotNull(accepted.getHeaders().getLocation());
+
+        // The writer drains the queue within a poll interval; give it a few.
+        Map<?, ?> status = accepted.getBody();
+        for (int i = 0; i < 50 && "QUEUED".equals(status.get("status")); i++) {
+            Thread.sleep(100);
+            status = restTemplate.getForObject(accepted.getHeaders().getLocation(), Map.class);
+        }
+
+        assertEquals("CREATED", status.get("status"));
+        long id = ((Number) status.get("id")).longValue();
+        Tutorial created = tutorialRepository.findById(id).orElseThrow();
+        assertEquals("Ingested Tutorial", created.getTitle());
+        assertFalse(created.isPublished());
+    }
+
+    @Test
+    public void testChangeStreamResumesFromLastEventId() throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        try (Stream<String> live = openChanges(http, null)) {
+            Iterator<String> lines = live.iterator();
+            Map<String, String> ready = nextEvent(lines);
+            assertEquals("ready", ready.get("event"));
+
+            restTemplate.postForEntity(BASE_URL, new Tutorial("Streamed Tutorial", "Description", false), Tutorial.class);
+            Map<String, String> created = nextEvent(lines);
+            assertEquals("created", created.get("event"));
+            assertTrue(created.get("data").contains("Streamed Tutorial"));
+
+            // A reconnect with the position before the create replays it from the change log.
+            try (Stream<String> resumed = openChanges(http, ready.get("id"))) {
+                Map<String, String> replayed = nextEvent(resumed.iterator());
+                assertEquals("created", replayed.get("event"));
+                assertEquals(created.get("id"), replayed.get("id"));
+            }
+        }
+
+        try (Stream<String> stale = openChanges(http, "1.1")) {
+            assertEquals("reset", nextEvent(stale.iterator()).get("event"));
+        }
+    }
+
+    private static Stream<String> openChanges(HttpClient http, String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(BASE_URL + "/changes"))
+                .header(HttpHeaders.ACCEPT, "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = http.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    // Reads one server-sent event (fields up to the next blank line), skipping comment-only blocks.
+    private static Map<String, String> nextEvent(Iterator<String> lines) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, String> event = new HashMap<>();
+            while (lines.hasNext()) {
+                String line = lines.next();
+                if (line.isEmpty() && !event.isEmpty()) {
+                    return event;
+                }
+                int colon = line.indexOf(':');
+                if (colon > 0) {
+                    event.put(line.substring(0, colon), line.substring(colon + 1));
+                }
+            }
+            return event;
+        }).get(10, TimeUnit.SECONDS);
+    }
+
     @Test
     public void testGetTutorialById() {
         Tutorial tutorial = new Tutorial("Get ID Test", "Description for Get ID Test", true);
@@ -79,14 +170,79 @@ public class TutorialControllerRestIntegrationTest {
         assertEquals("Update Test - After Update", updatedTutorial.getTitle());
     }
 
+    @Test
+    public void testConditionalRequests() {
+        Tutorial tutorial = tutorialRepository.save(new Tutorial("ETag Test", "Before Update", false));
+        String url = BASE_URL + "/" + tutorial.getId();
+
+        String etag = restTemplate.getForEntity(url, Tutorial.class).getHeaders().getETag();
+        assertNotNull(etag);
+
+        HttpHeaders ifNoneMatch = new HttpHeaders();
+        ifNoneMatch.setIfNoneMatch(etag);
+        ResponseEntity<Tutorial> notModified = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch), Tutorial.class);
+        assertEquals(304, notModified.getStatusCodeValue());
+
+        HttpHeaders ifMatch = new HttpHeaders();
+        ifMatch.setIfMatch(etag);
+        tutorial.setTitle("ETag Test - After Update");
+        ResponseEntity<Tutorial> updated = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(tutorial, ifMatch), Tutorial.class);
+        assertEquals(200, updated.getStatusCodeValue());
+        assertNotEquals(etag, updated.getHeaders().getETag());
+
+        // The first tag is now stale: revalidation returns the new state and a blind overwrite is refused.
+        assertEquals(200, restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(ifNoneMatch), Tutorial.class).getStatusCodeValue());
+        ResponseEntity<Tutorial> conflict = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(tutorial, ifMatch), Tutorial.class);
+        assertEquals(412, conflict.getStatusCodeValue());
+    }
+
+    @Test
+    public void testResponseCompression() {
+        for (int i = 0; i < 50; i++) {
+            tutorialRepository.save(new Tutorial("Compression Test " + i, "A description long enough to add up", false));
+        }
+        HttpHeaders acceptGzip = new HttpHeaders();
+        acceptGzip.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        ResponseEntity<byte[]> list = restTemplate.exchange(BASE_URL, HttpMethod.GET, new HttpEntity<>(acceptGzip), byte[].class);
+        assertEquals(200, list.getStatusCodeValue());
+        assertEquals("gzip", list.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+
+        // A single tutorial is below server.compression.min-response-size and is sent as is.
+        Tutorial tutorial = tutorialRepository.findAll().get(0);
+        ResponseEntity<byte[]> single = restTemplate.exchange(BASE_URL + "/" + tutorial.getId(), HttpMethod.GET,
+                new HttpEntity<>(acceptGzip), byte[].class);
+        assertEquals(200, single.getStatusCodeValue());
+        assertNull(single.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
     @Test
     public void testDeleteTutorial() {
         Tutorial tutorial = new Tutorial("Delete Test", "Description for Delete Test", false);
         tutorial = tutorialRepository.save(tutorial);
 
-        restTemplate.delete(BASE_URL + "/" + tutorial.getId());
+        ResponseEntity<Void> response = restTemplate.exchange(BASE_URL + "/" + tutorial.getId(), HttpMethod.DELETE, null, Void.class);
 
+        assertEquals(204, response.getStatusCodeValue());
+        assertEquals("1", response.getHeaders().getFirst("X-Deleted-Count"));
         assertFalse(tutorialRepository.existsById(tutorial.getId()));
+
+        response = restTemplate.exchange(BASE_URL + "/" + tutorial.getId(), HttpMethod.DELETE, null, Void.class);
+        assertEquals("0", response.getHeaders().getFirst("X-Deleted-Count"));
+    }
+
+    @Test
+    public void testDeleteAllTutorials() {
+        // Warm the published view and the query cache so the test also covers their invalidation.
+        assertEquals(200, restTemplate.getForEntity(BASE_URL + "/published", byte[].class).getStatusCodeValue());
+
+        ResponseEntity<Void> response = restTemplate.exchange(BASE_URL, HttpMethod.DELETE, null, Void.class);
+
+        assertEquals(204, response.getStatusCodeValue());
+        assertEquals("2", response.getHeaders().getFirst("X-Deleted-Count"));
+        assertEquals(0, tutorialRepository.count());
+        assertEquals(204, restTemplate.getForEntity(BASE_URL + "/published", byte[].class).getStatusCodeValue());
+        assertEquals(204, restTemplate.getForEntity(BASE_URL + "?title=Java", List.class).getStatusCodeValue());
     }
 
     @Test
@@ -97,6 +253,27 @@ public class TutorialControllerRestIntegrationTest {
         assertNotNull(response.getBody());
     }
 
+    @Test
+    public void testStatisticsFollowWrites() {
+        Map<?, ?> statistics = restTemplate.getForObject(BASE_URL + "/stats", Map.class);
+        assertEquals(2, statistics.get("total"));
+        assertEquals(1, statistics.get("published"));
+        assertEquals(Map.of("J", 1, "P", 1), statistics.get("titlePrefixes"));
+
+        Tutorial java = tutorialRepository.findByTitleContainingIgnoreCase("Java").get(0);
+        java.setTitle("Spring");
+        java.setPublished(true);
+        restTemplate.put(BASE_URL + "/" + java.getId(), java);
+        restTemplate.postForEntity(BASE_URL, new Tutorial("jakarta", "Draft", false), Tutorial.class);
+        restTemplate.delete(BASE_URL + "/" + tutorialRepository.findByTitleContainingIgnoreCase("Published").get(0).getId());
+
+        statistics = restTemplate.getForObject(BASE_URL + "/stats", Map.class);
+        assertEquals(2, statistics.get("total"));
+        assertEquals(1, statistics.get("published"));
+        assertEquals(1, statistics.get("unpublished"));
+        assertEquals(Map.of("J", 1, "S", 1), statistics.get("titlePrefixes"));
+    }
+
     @Test
     public void testFindByTitleContaining() {
         String title = "Java";
@@ -105,4 +282,50 @@ public class TutorialControllerRestIntegrationTest {
         assertEquals(200, response.getStatusCodeValue());
         assertNotNull(response.getBody());
     }
+
+    @Test
+    public void testExportTutorials() {
+        ResponseEntity<String> response = restTemplate.getForEntity(BASE_URL + "/export", String.class);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().lines().count());
+        assertTrue(response.getBody().lines().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+    }
+
+    @Test
+    public void testBulkCreateUpdateDelete() {
+        ParameterizedTypeReference<List<Map<String, Object>>> results = new ParameterizedTypeReference<>() {};
+        List<Tutorial> tutorials = List.of(new Tutorial("Bulk 1", "First", false), new Tutorial("Bulk 2", "Second", false));
+
+        ResponseEntity<List<Map<String, Object>>> created = restTemplate.exchange(BASE_URL + "/bulk", HttpMethod.POST,
+                new HttpEntity<>(tutorials), results);
+        assertEquals(200, created.getStatusCodeValue());
+        assertTrue(created.getBody().stream().allMatch(result -> "CREATED".equals(result.get("status"))));
+        long firstId = ((Number) created.getBody().get(0).get("id")).longValue();
+        long secondId = ((Number) created.getBody().get(1).get("id")).longValue();
+
+        Tutorial update = new Tutorial("Bulk 1 - Updated", "First", true);
+        update.setId(firstId);
+        Tutorial missing = new Tutorial("Missing", "Missing", true);
+        missing.setId(-1L);
+        ResponseEntity<List<Map<String, Object>>> updated = restTemplate.exchange(BASE_URL + "/bulk", HttpMethod.PUT,
+                new HttpEntity<>(List.of(update, missing)), results);
+        assertEquals("UPDATED", updated.getBody().get(0).get("status"));
+        assertEquals("NOT_FOUND", updated.getBody().get(1).get("status"));
+        assertEquals("Bulk 1 - Updated", tutorialRepository.findById(firstId).orElseThrow().getTitle());
+        Map<?, ?> statistics = restTemplate.getForObject(BASE_URL + "/stats", Map.class);
+        assertEquals(4, statistics.get("total"));
+        assertEquals(2, statistics.get("published"));
+
+        ResponseEntity<List<Map<String, Object>>> deleted = restTemplate.exchange(BASE_URL + "/bulk", HttpMethod.DELETE,
+                new HttpEntity<>(List.of(firstId, secondId)), results);
+        assertTrue(deleted.getBody().stream().allMatch(result -> "DELETED".equals(result.get("status"))));
+        assertFalse(tutorialRepository.existsById(firstId));
+        assertFalse(tutorialRepository.existsById(secondId));
+        statistics = restTemplate.getForObject(BASE_URL + "/stats", Map.class);
+        assertEquals(2, statistics.get("total"));
+        assertEquals(1, statistics.get("published"));
+        assertEquals(Map.of("J", 1, "P", 1), statistics.get("titlePrefixes"));
+    }
 }
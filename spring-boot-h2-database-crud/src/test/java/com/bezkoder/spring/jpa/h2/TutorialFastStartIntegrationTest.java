@@ -0,0 +1,45 @@
+package com.bezkoder.spring.jpa.h2;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangeLog;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:fast-start;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("fast-start")
+public class TutorialFastStartIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    public void whenLazilyStarted_thenBeansAreCreatedOnFirstUse() {
+        assertTrue(beanFactory.getBeanDefinition("tutorialController").isLazyInit());
+        assertFalse(beanFactory.containsSingleton("tutorialController"));
+
+        Tutorial tutorial = new Tutorial("Fast Start", "Created after a lazy start", true);
+        ResponseEntity<Tutorial> created = restTemplate.postForEntity("/api/tutorials", tutorial, Tutorial.class);
+        assertEquals(201, created.getStatusCodeValue());
+
+        ResponseEntity<Tutorial> read = restTemplate.getForEntity("/api/tutorials/" + created.getBody().getId(),
+                Tutorial.class);
+        assertEquals(200, read.getStatusCodeValue());
+        assertEquals("Fast Start", read.getBody().getTitle());
+
+        // The deferred repository and the lazily created change log still see the committed create.
+        assertEquals(1, beanFactory.getBean(TutorialRepository.class).count());
+        assertTrue(beanFactory.getBean(TutorialChangeLog.class).getLastSequence() >= 1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bezkoder.spring.jpa.h2;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Starts the application on a copy of the checked-in database, which predates Flyway, so every migration runs against
+// a schema Hibernate created with ddl-auto=update and the tracked file itself is left untouched.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class TutorialLegacyDatabaseMigrationTest {
+
+    @TempDir
+    static Path databaseDir;
+
+    @BeforeAll
+    static void copyLegacyDatabase() throws IOException {
+        Files.copy(Path.of("testdb.mv.db"), databaseDir.resolve("testdb.mv.db"));
+    }
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) {
+        registry.add("tutorials.h2.file", () -> databaseDir.resolve("testdb").toString());
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void whenLegacyDatabaseStarts_thenBaselinedAndMigratedToLatest() {
+        assertThat(jdbcTemplate.queryForList("SELECT \"type\" || ':' || \"version\" FROM \"flyway_schema_history\" "
+                + "WHERE \"version\" IS NOT NULL AND \"success\" ORDER BY \"installed_rank\"", String.class))
+                .containsExactly("BASELINE:1", "SQL:2", "SQL:3");
+        // The repeatable sequence upgrade runs last, after every versioned migration.
+        assertThat(jdbcTemplate.queryForObject("SELECT \"description\" FROM \"flyway_schema_history\" "
+                + "WHERE \"installed_rank\" = (SELECT MAX(\"installed_rank\") FROM \"flyway_schema_history\")",
+                String.class))
+                .isEqualTo("align tutorials_seq");
+    }
+
+    @Test
+    public void whenLegacyDatabaseStarts_thenRowsAreKeptAndMigrated() {
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tutorials", Long.class)).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tutorials WHERE version = 0", Long.class))
+                .isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE INDEX_NAME = 'TUTORIALS_PUBLISHED_ID_IDX'", Long.class))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    public void whenLegacyDatabaseStarts_thenSequenceIsUpgradedPastExistingIds() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TUTORIALS_SEQ'", Long.class))
+                .isEqualTo(100L);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tutorials", Long.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tutorials_seq", Long.class))
+                .isGreaterThan(maxId);
+    }
+}
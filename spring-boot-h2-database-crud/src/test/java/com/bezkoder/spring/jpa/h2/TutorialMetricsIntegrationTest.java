@@ -0,0 +1,78 @@
+package com.bezkoder.spring.jpa.h2;
+
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class TutorialMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TutorialRepository tutorialRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        tutorialRepository.deleteAll();
+        tutorialRepository.save(new Tutorial("Metrics 1", "Description", false));
+        tutorialRepository.save(new Tutorial("Metrics 2", "Description", false));
+        tutorialRepository.save(new Tutorial("Metrics 3", "Description", true));
+    }
+
+    @Test
+    public void whenRepositoryReturnsEntities_thenResultSizeIsRecorded() throws Exception {
+        mockMvc.perform(get("/api/tutorials").param("limit", "10")).andExpect(status().isOk());
+
+        DistributionSummary results = meterRegistry.find("tutorials.repository.results")
+                .tag("repository", "TutorialRepository")
+                .tag("method", "findByIdGreaterThanOrderByIdAsc")
+                .summary();
+        assertNotNull(results);
+        assertTrue(results.count() >= 1);
+        assertEquals(3, results.max());
+    }
+
+    @Test
+    public void whenEndpointCalled_thenRequestAndRepositoryTimersAreRecorded() throws Exception {
+        mockMvc.perform(get("/api/tutorials/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        assertNotNull(meterRegistry.find("http.server.requests")
+                .tag("uri", "/api/tutorials/{id}").tag("status", "404").timer());
+        assertNotNull(meterRegistry.find("spring.data.repository.invocations")
+                .tag("method", "findById").tag("state", "SUCCESS").timer());
+    }
+
+    @Test
+    public void whenPrometheusScraped_thenHistogramsAndPoolMetricsAreExposed() throws Exception {
+        mockMvc.perform(get("/api/tutorials").param("limit", "10")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("tutorials_repository_results_entities_bucket")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_sessions_open_total")));
+    }
+}
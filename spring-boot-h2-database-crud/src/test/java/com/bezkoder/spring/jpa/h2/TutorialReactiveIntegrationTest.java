@@ -0,0 +1,129 @@
+package com.bezkoder.spring.jpa.h2;
+
+import com.bezkoder.spring.jpa.h2.controller.ReactiveTutorialController;
+import com.bezkoder.spring.jpa.h2.controller.TutorialController;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The web application type is decided before profile properties are read, so it is set here as well.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+public class TutorialReactiveIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TutorialRepository tutorialRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private Tutorial published;
+
+    @BeforeEach
+    public void setUp() {
+        tutorialRepository.deleteAll();
+        published = tutorialRepository.save(new Tutorial("Reactive Spring", "Published", true));
+        tutorialRepository.save(new Tutorial("Blocking Java", "Draft", false));
+    }
+
+    @Test
+    public void onlyReactiveControllerIsActive() {
+        assertThat(applicationContext.getBeansOfType(TutorialController.class)).isEmpty();
+        assertThat(applicationContext.getBeansOfType(ReactiveTutorialController.class)).hasSize(1);
+    }
+
+    @Test
+    public void streamsAllTutorialsAsNdjson() {
+        List<Tutorial> tutorials = webTestClient.get().uri("/api/tutorials")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Tutorial.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(tutorials).extracting(Tutorial::getTitle).containsExactly("Reactive Spring", "Blocking Java");
+    }
+
+    @Test
+    public void filtersByTitleAndPublished() {
+        webTestClient.get().uri("/api/tutorials?title=SPRING")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Reactive Spring");
+
+        webTestClient.get().uri("/api/tutorials/published")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].published").isEqualTo(true);
+    }
+
+    @Test
+    public void getsTutorialByIdWithETag() {
+        String etag = webTestClient.get().uri("/api/tutorials/{id}", published.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive Spring")
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertThat(etag).isEqualTo("\"" + published.getId() + "." + published.getVersion() + "\"");
+
+        webTestClient.get().uri("/api/tutorials/{id}", published.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.get().uri("/api/tutorials/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void writesGoThroughJpa() {
+        Tutorial created = webTestClient.post().uri("/api/tutorials")
+                .bodyValue(new Tutorial("Created Reactively", "New", true))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Tutorial.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(created.isPublished()).isFalse();
+        assertThat(tutorialRepository.findById(created.getId())).isPresent();
+
+        webTestClient.put().uri("/api/tutorials/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"" + created.getId() + ".7\"")
+                .bodyValue(new Tutorial("Updated", "New", true))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        webTestClient.delete().uri("/api/tutorials/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectHeader().valueEquals("X-Deleted-Count", "1");
+        assertThat(tutorialRepository.findById(created.getId())).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.bezkoder.spring.jpa.h2;
 
 import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialField;
 import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,11 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -69,6 +75,31 @@ public class TutorialRepositoryIntegrationTest {
         assertThat(tutorials.get(0).getTitle()).isEqualTo(tutorial.getTitle());
     }
 
+    @Test
+    public void whenFindByIdGreaterThan_thenReturnNextPage() {
+        Tutorial second = entityManager.persist(new Tutorial("Second Tutorial", "Second Description", false));
+        Tutorial third = entityManager.persist(new Tutorial("Third Tutorial", "Third Description", false));
+        entityManager.flush();
+
+        List<Tutorial> page = tutorialRepository.findByIdGreaterThanOrderByIdAsc(tutorial.getId(), PageRequest.of(0, 1));
+        assertThat(page).hasSize(1);
+        assertThat(page.get(0).getId()).isEqualTo(second.getId());
+
+        page = tutorialRepository.findByIdGreaterThanOrderByIdAsc(second.getId(), PageRequest.of(0, 10));
+        assertThat(page).extracting(Tutorial::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    public void whenStreamAll_thenReturnTutorialsInIdOrder() {
+        Tutorial second = entityManager.persist(new Tutorial("Second Tutorial", "Second Description", false));
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<Tutorial> tutorials = tutorialRepository.streamAllByOrderByIdAsc()) {
+            assertThat(tutorials).extracting(Tutorial::getId).containsExactly(tutorial.getId(), second.getId());
+        }
+    }
+
     @Test
     public void whenSave_thenReturnSavedTutorial() {
         Tutorial newTutorial = new Tutorial("New Tutorial", "New Description", false);
@@ -83,4 +114,73 @@ public class TutorialRepositoryIntegrationTest {
         Optional<Tutorial> deleted = tutorialRepository.findById(tutorial.getId());
         assertThat(deleted.isPresent()).isFalse();
     }
+
+    @Test
+    public void whenDeleteInBulkByIdAndVersion_thenOnlyDeleteThatVersion() {
+        assertThat(tutorialRepository.deleteInBulkByIdAndVersion(tutorial.getId(), tutorial.getVersion() + 1))
+                .isEqualTo(0);
+        assertThat(tutorialRepository.existsById(tutorial.getId())).isTrue();
+
+        assertThat(tutorialRepository.deleteInBulkByIdAndVersion(tutorial.getId(), tutorial.getVersion()))
+                .isEqualTo(1);
+        assertThat(tutorialRepository.existsById(tutorial.getId())).isFalse();
+        assertThat(tutorialRepository.deleteInBulkByIdAndVersion(tutorial.getId(), tutorial.getVersion()))
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void whenDeleteInBulkByIdRange_thenDeleteOnlyThatRange() {
+        Tutorial second = entityManager.persist(new Tutorial("Second Tutorial", "Second Description", false));
+        Tutorial third = entityManager.persist(new Tutorial("Third Tutorial", "Third Description", false));
+        entityManager.flush();
+
+        // The second id after the first one bounds a two-row chunk.
+        List<Long> bound = tutorialRepository.findIdsAfter(Long.MIN_VALUE, PageRequest.of(1, 1));
+        assertThat(bound).containsExactly(second.getId());
+
+        assertThat(tutorialRepository.deleteInBulkByIdRange(Long.MIN_VALUE, bound.get(0))).isEqualTo(2);
+        assertThat(tutorialRepository.findAll()).extracting(Tutorial::getId).containsExactly(third.getId());
+        assertThat(tutorialRepository.findIdsAfter(third.getId(), PageRequest.of(1, 1))).isEmpty();
+    }
+
+    @Test
+    public void whenFindFieldsPage_thenReturnOnlySelectedFields() {
+        Tutorial second = entityManager.persist(new Tutorial("Second Tutorial", "Second Description", true));
+        entityManager.persist(new Tutorial("Other 100%", "Third Description", false));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Map<String, Object>> page = tutorialRepository.findFieldsPage(
+                EnumSet.of(TutorialField.ID, TutorialField.TITLE), "TUTORIAL", tutorial.getId(), 10);
+        assertThat(page).containsExactly(Map.of("id", second.getId(), "title", "Second Tutorial"));
+
+        // Wildcards in the title filter are matched literally, as in the derived queries.
+        assertThat(tutorialRepository.findFieldsPage(EnumSet.of(TutorialField.ID), "0%", 0L, 10)).hasSize(1);
+        assertThat(tutorialRepository.findFieldsPage(EnumSet.of(TutorialField.ID), "_", 0L, 10)).isEmpty();
+    }
+
+    @Test
+    public void whenDefaultLocaleIsTurkish_thenTitleFilterStillIgnoresCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Upper-cased in Turkish, "tutorial" would become "TUTORİAL" with a dotted capital I.
+            assertThat(tutorialRepository.findFieldsPage(EnumSet.of(TutorialField.ID), "tutorial", 0L, 10))
+                    .containsExactly(Map.of("id", tutorial.getId()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void whenFindFieldsByPublished_thenReturnPublishedRowsInIdOrder() {
+        Tutorial second = entityManager.persist(new Tutorial("Second Tutorial", "Second Description", true));
+        entityManager.persist(new Tutorial("Third Tutorial", "Third Description", false));
+        entityManager.flush();
+
+        List<Map<String, Object>> published = tutorialRepository.findFieldsByPublished(
+                EnumSet.of(TutorialField.ID, TutorialField.PUBLISHED), true);
+        assertThat(published).extracting(row -> row.get("id")).containsExactly(tutorial.getId(), second.getId());
+        assertThat(published.get(0)).containsOnlyKeys("id", "published");
+    }
 }
@@ -0,0 +1,33 @@
+package com.bezkoder.spring.jpa.h2;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ddl-auto=validate makes Hibernate fail the context if the migrated schema does not match the entity mapping.
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+public class TutorialSchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void whenMigrated_thenSequenceMatchesAllocationSize() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TUTORIALS_SEQ'", Long.class))
+                .isEqualTo(100L);
+    }
+
+    @Test
+    public void whenFindByPublished_thenPlanUsesPublishedIndex() {
+        assertThat(explain("SELECT * FROM tutorials WHERE published = TRUE ORDER BY id"))
+                .contains("TUTORIALS_PUBLISHED_ID_IDX");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bezkoder.spring.jpa.h2;
+
+import com.bezkoder.spring.jpa.h2.config.DataSourceProxyConfig;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TutorialSqlStatementIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TutorialRepository tutorialRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Tutorial tutorial;
+
+    @BeforeEach
+    public void setUp() {
+        tutorialRepository.deleteAll();
+        tutorial = tutorialRepository.save(new Tutorial("Statements", "Description", false));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void whenUpdateTutorial_thenOneSelectAndOneUpdate() throws Exception {
+        mockMvc.perform(put("/api/tutorials/{id}", tutorial.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Updated\",\"description\":\"Description\",\"published\":true}"))
+                .andExpect(status().isOk());
+
+        QueryCount count = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+        assertEquals(1, count.getSelect());
+        assertEquals(1, count.getUpdate());
+        assertEquals(2, count.getTotal());
+    }
+
+    @Test
+    public void whenPatchCachedTutorial_thenOnlyOneUpdate() throws Exception {
+        mockMvc.perform(get("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/tutorials/{id}", tutorial.getId())
+                        .contentType("application/merge-patch+json")
+                        .content("{\"published\":true}"))
+                .andExpect(status().isOk());
+
+        QueryCount count = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+        assertEquals(1, count.getUpdate());
+        assertEquals(1, count.getTotal());
+
+        Tutorial patched = tutorialRepository.findById(tutorial.getId()).orElseThrow();
+        assertTrue(patched.isPublished());
+        assertEquals("Statements", patched.getTitle());
+        assertEquals(tutorial.getVersion() + 1, patched.getVersion());
+    }
+
+    @Test
+    public void whenDeleteCachedTutorial_thenOnlyOneDelete() throws Exception {
+        mockMvc.perform(get("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isNoContent());
+
+        QueryCount count = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+        assertEquals(1, count.getDelete());
+        assertEquals(1, count.getTotal());
+        assertFalse(tutorialRepository.existsById(tutorial.getId()));
+    }
+
+    @Test
+    public void whenDeleteUncachedTutorial_thenOneSelectAndOneDelete() throws Exception {
+        mockMvc.perform(delete("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isNoContent());
+
+        QueryCount count = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+        assertEquals(1, count.getSelect());
+        assertEquals(1, count.getDelete());
+        assertEquals(2, count.getTotal());
+        assertFalse(tutorialRepository.existsById(tutorial.getId()));
+    }
+
+    @Test
+    public void whenCachedTutorialIsStale_thenDeleteRereadsIt() throws Exception {
+        mockMvc.perform(get("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isOk());
+        // Changed behind Hibernate's back, so the cached version no longer matches the row.
+        jdbcTemplate.update("UPDATE tutorials SET version = version + 1 WHERE id = ?", tutorial.getId());
+
+        mockMvc.perform(delete("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isNoContent());
+
+        QueryCount count = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+        assertEquals(1, count.getSelect());
+        assertEquals(2, count.getDelete());
+        assertFalse(tutorialRepository.existsById(tutorial.getId()));
+    }
+
+    @Test
+    public void whenTutorialIsCached_thenGetIssuesNoStatements() throws Exception {
+        mockMvc.perform(get("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isOk());
+        assertEquals(1, QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME).getSelect());
+
+        mockMvc.perform(get("/api/tutorials/{id}", tutorial.getId())).andExpect(status().isOk());
+        assertEquals(0, QueryCountHolder.getGrandTotal().getTotal());
+    }
+}
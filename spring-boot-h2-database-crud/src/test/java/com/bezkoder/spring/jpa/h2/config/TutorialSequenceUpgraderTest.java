@@ -0,0 +1,75 @@
+package com.bezkoder.spring.jpa.h2.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TutorialSequenceUpgraderTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    public void whenNoSequence_thenNothingToUpgrade() {
+        new TutorialSequenceUpgrader(100).upgrade(jdbcTemplate);
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TUTORIALS_SEQ'", Integer.class));
+    }
+
+    @Test
+    public void whenLegacySequence_thenIncrementMatchesAllocationSize() {
+        jdbcTemplate.execute("CREATE SEQUENCE tutorials_seq START WITH 551 INCREMENT BY 50");
+
+        new TutorialSequenceUpgrader(100).upgrade(jdbcTemplate);
+
+        assertEquals(100L, jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TUTORIALS_SEQ'", Long.class));
+        assertEquals(551L, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tutorials_seq", Long.class));
+    }
+
+    @Test
+    public void whenDefaultLocaleIsTurkish_thenSequenceIsStillFound() {
+        jdbcTemplate.execute("CREATE SEQUENCE tutorials_seq START WITH 551 INCREMENT BY 50");
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            new TutorialSequenceUpgrader(100).upgrade(jdbcTemplate);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        assertEquals(100L, jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'TUTORIALS_SEQ'", Long.class));
+    }
+
+    @Test
+    public void whenSequenceBehindExistingIds_thenRestartAfterMaxId() {
+        jdbcTemplate.execute("CREATE SEQUENCE tutorials_seq START WITH 1 INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE TABLE tutorials (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+        jdbcTemplate.execute("INSERT INTO tutorials VALUES (469, 'Existing')");
+
+        new TutorialSequenceUpgrader(50).upgrade(jdbcTemplate);
+
+        assertEquals(470L, jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tutorials_seq", Long.class));
+    }
+}
@@ -1,24 +1,52 @@
 package com.bezkoder.spring.jpa.h2.controller;
 
 import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialCollectionVersion;
+import com.bezkoder.spring.jpa.h2.repository.TutorialField;
 import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.bezkoder.spring.jpa.h2.service.BulkItemResult;
+import com.bezkoder.spring.jpa.h2.service.TutorialBulkService;
+import com.bezkoder.spring.jpa.h2.service.IngestionStatus;
+import com.bezkoder.spring.jpa.h2.service.TutorialExportService;
+import com.bezkoder.spring.jpa.h2.service.TutorialIngestionService;
+import com.bezkoder.spring.jpa.h2.service.TutorialSearchService;
+import com.bezkoder.spring.jpa.h2.view.PublishedTutorialsView;
+import com.bezkoder.spring.jpa.h2.view.TutorialStatisticsView;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +56,24 @@ public class TutorialControllerTest {
     @Mock
     private TutorialRepository tutorialRepository;
 
+    @Mock
+    private TutorialExportService tutorialExportService;
+
+    @Mock
+    private TutorialSearchService tutorialSearchService;
+
+    @Mock
+    private TutorialBulkService tutorialBulkService;
+
+    @Mock
+    private PublishedTutorialsView publishedTutorialsView;
+
+    @Mock
+    private TutorialIngestionService tutorialIngestionService;
+
+    @Mock
+    private TutorialStatisticsView tutorialStatisticsView;
+
     @InjectMocks
     private TutorialController tutorialController;
 
@@ -35,11 +81,13 @@ public class TutorialControllerTest {
 
     @BeforeEach
     void setUp() {
+        tutorialController.maxBulkItems = 2;
         mockMvc = MockMvcBuilders.standaloneSetup(tutorialController).build();
     }
 
     @Test
     void getAllTutorialsTest() throws Exception {
+        when(tutorialRepository.getCollectionVersion()).thenReturn(collectionVersion(2, 2, 3, 0));
         when(tutorialRepository.findAll()).thenReturn(Arrays.asList(new Tutorial("Title1", "Desc1", false),
                 new Tutorial("Title2", "Desc2", true)));
 
@@ -48,7 +96,147 @@ public class TutorialControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].title", is("Title1")))
-                .andExpect(jsonPath("$[1].description", is("Desc2")));
+                .andExpect(jsonPath("$[1].description", is("Desc2")))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"all.2.2.3.0\""));
+    }
+
+    @Test
+    void getAllTutorialsNotModifiedTest() throws Exception {
+        when(tutorialRepository.getCollectionVersion()).thenReturn(collectionVersion(2, 2, 3, 0));
+
+        mockMvc.perform(get("/api/tutorials").header(HttpHeaders.IF_NONE_MATCH, "W/\"all.2.2.3.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(tutorialRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllTutorialsWithFieldsTest() throws Exception {
+        when(tutorialRepository.getCollectionVersion()).thenReturn(collectionVersion(2, 2, 3, 0));
+        when(tutorialRepository.findAllFields(EnumSet.of(TutorialField.ID, TutorialField.TITLE)))
+                .thenReturn(List.of(Map.of("id", 1L, "title", "Title1"), Map.of("id", 2L, "title", "Title2")));
+
+        mockMvc.perform(get("/api/tutorials").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].title", is("Title2")))
+                .andExpect(jsonPath("$[1].description").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"all-id-title.2.2.3.0\""));
+        verify(tutorialRepository, never()).findAll();
+    }
+
+    @Test
+    void getTutorialsPageWithFieldsTest() throws Exception {
+        when(tutorialRepository.findFieldsPage(EnumSet.of(TutorialField.ID, TutorialField.PUBLISHED), null, 0L, 3))
+                .thenReturn(List.of(Map.of("id", 1L, "published", false), Map.of("id", 2L, "published", true),
+                        Map.of("id", 3L, "published", true)));
+
+        mockMvc.perform(get("/api/tutorials").param("limit", "2").param("fields", "published"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TutorialController.NEXT_CURSOR_HEADER, TutorialCursor.encode(2L)))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].published", is(true)));
+    }
+
+    @Test
+    void getAllTutorialsWithUnknownFieldTest() throws Exception {
+        mockMvc.perform(get("/api/tutorials").param("fields", "title,author"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void findByPublishedWithFieldsTest() throws Exception {
+        when(tutorialRepository.getCollectionVersion()).thenReturn(collectionVersion(2, 2, 3, 0));
+        when(tutorialRepository.findFieldsByPublished(EnumSet.of(TutorialField.ID, TutorialField.TITLE), true))
+                .thenReturn(List.of(Map.of("id", 2L, "title", "Title2")));
+
+        mockMvc.perform(get("/api/tutorials/published").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Title2")));
+        verify(publishedTutorialsView, never()).snapshot();
+    }
+
+    @Test
+    void searchTutorialsTest() throws Exception {
+        when(tutorialSearchService.search("java", TutorialController.DEFAULT_SEARCH_LIMIT))
+                .thenReturn(Arrays.asList(new Tutorial("Java", "Java Description", true),
+                        new Tutorial("Spring", "Java web framework", false)));
+
+        mockMvc.perform(get("/api/tutorials").param("title", "java")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Java")));
+    }
+
+    @Test
+    void getTutorialsPageTest() throws Exception {
+        when(tutorialRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(new Tutorial("Title1", "Desc1", false),
+                        new Tutorial("Title2", "Desc2", true),
+                        new Tutorial("Title3", "Desc3", true)));
+
+        mockMvc.perform(get("/api/tutorials").param("limit", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(TutorialController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].title", is("Title2")));
+    }
+
+    @Test
+    void getTutorialsPageByTitleTest() throws Exception {
+        when(tutorialRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(eq("java"), eq(0L),
+                any(Pageable.class)))
+                .thenReturn(Arrays.asList(new Tutorial("Java", "Desc1", false),
+                        new Tutorial("Java Streams", "Desc2", true),
+                        new Tutorial("Java Records", "Desc3", true)));
+
+        mockMvc.perform(get("/api/tutorials").param("title", "java").param("limit", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(TutorialController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].title", is("Java Streams")));
+        verify(tutorialSearchService, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    void getTutorialsLastPageTest() throws Exception {
+        when(tutorialRepository.findByIdGreaterThanOrderByIdAsc(eq(41L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(new Tutorial("Title42", "Desc42", false)));
+
+        mockMvc.perform(get("/api/tutorials").param("limit", "2").param("after", TutorialCursor.encode(41L))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TutorialController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void getTutorialsPageWithInvalidCursorTest() throws Exception {
+        mockMvc.perform(get("/api/tutorials").param("after", "not-a-cursor")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTutorialsTest() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"title\":\"Title1\"}\n{\"title\":\"Title2\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(tutorialExportService).exportNdjson(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/tutorials/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"title\":\"Title1\"}\n{\"title\":\"Title2\"}\n"));
     }
 
     @Test
@@ -59,7 +247,56 @@ public class TutorialControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title", is("Title1")))
-                .andExpect(jsonPath("$.published", is(false)));
+                .andExpect(jsonPath("$.published", is(false)))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""));
+    }
+
+    @Test
+    void getTutorialByIdAsCborTest() throws Exception {
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(new Tutorial("Title1", "Desc1", false)));
+
+        MvcResult result = mockMvc.perform(get("/api/tutorials/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0-cbor\""))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+        Tutorial tutorial = new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), Tutorial.class);
+        assertEquals("Title1", tutorial.getTitle());
+    }
+
+    @Test
+    void getTutorialByIdAsSmileTest() throws Exception {
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(new Tutorial("Title1", "Desc1", false)));
+
+        MvcResult result = mockMvc.perform(get("/api/tutorials/1").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0-smile\""))
+                .andReturn();
+        Tutorial tutorial = new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), Tutorial.class);
+        assertEquals("Title1", tutorial.getTitle());
+    }
+
+    @Test
+    void getTutorialByIdWithBrowserAcceptTest() throws Exception {
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(new Tutorial("Title1", "Desc1", false)));
+
+        mockMvc.perform(get("/api/tutorials/1").header(HttpHeaders.ACCEPT, "application/json, text/plain, */*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""));
+    }
+
+    @Test
+    void getTutorialByIdNotModifiedTest() throws Exception {
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(new Tutorial("Title1", "Desc1", false)));
+
+        mockMvc.perform(get("/api/tutorials/1").header(HttpHeaders.IF_NONE_MATCH, "\"0.0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""))
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -74,6 +311,80 @@ public class TutorialControllerTest {
                 .andExpect(jsonPath("$.title", is("New Title")));
     }
 
+    @Test
+    void createTutorialsTest() throws Exception {
+        when(tutorialBulkService.createAll(anyList())).thenReturn(Arrays.asList(
+                BulkItemResult.of(0, 1L, BulkItemResult.Status.CREATED),
+                BulkItemResult.failed(1, null, "constraint violation")));
+
+        mockMvc.perform(post("/api/tutorials/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"T1\",\"description\":\"D1\"},{\"title\":\"T2\",\"description\":\"D2\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[1].status", is("FAILED")));
+    }
+
+    @Test
+    void createTutorialsOverLimitTest() throws Exception {
+        mockMvc.perform(post("/api/tutorials/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"T1\"},{\"title\":\"T2\"},{\"title\":\"T3\"}]"))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void ingestTutorialTest() throws Exception {
+        when(tutorialIngestionService.submit(any(Tutorial.class))).thenReturn(Optional.of(IngestionStatus.queued("t-1")));
+
+        mockMvc.perform(post("/api/tutorials/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"New Title\",\"description\":\"New Description\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/tutorials/ingest/t-1"))
+                .andExpect(jsonPath("$.trackingId", is("t-1")))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    @Test
+    void ingestTutorialQueueFullTest() throws Exception {
+        when(tutorialIngestionService.submit(any(Tutorial.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/tutorials/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"New Title\",\"description\":\"New Description\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void getIngestionStatusTest() throws Exception {
+        when(tutorialIngestionService.getStatus("t-1")).thenReturn(Optional.of(IngestionStatus.created("t-1", 42L)));
+
+        mockMvc.perform(get("/api/tutorials/ingest/t-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("CREATED")))
+                .andExpect(jsonPath("$.id", is(42)));
+
+        mockMvc.perform(get("/api/tutorials/ingest/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getStatisticsTest() throws Exception {
+        when(tutorialStatisticsView.statistics()).thenReturn(
+                new TutorialStatisticsView.Statistics(3, 1, 2, Map.of("J", 2L, "S", 1L)));
+
+        mockMvc.perform(get("/api/tutorials/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.published", is(1)))
+                .andExpect(jsonPath("$.unpublished", is(2)))
+                .andExpect(jsonPath("$.titlePrefixes.J", is(2)));
+        verify(tutorialRepository, never()).count();
+    }
+
     @Test
     void updateTutorialTest() throws Exception {
         Tutorial existingTutorial = new Tutorial("Old Title", "Old Description", false);
@@ -87,30 +398,168 @@ public class TutorialControllerTest {
                 .andExpect(jsonPath("$.title", is("Updated Title")));
     }
 
+    @Test
+    void updateTutorialWithStaleETagTest() throws Exception {
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(new Tutorial("Old Title", "Old Description", false)));
+
+        mockMvc.perform(put("/api/tutorials/1")
+                        .header(HttpHeaders.IF_MATCH, "\"0.7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Updated Title\",\"description\":\"Updated Description\",\"published\":true}"))
+                .andExpect(status().isPreconditionFailed());
+        verify(tutorialRepository, never()).save(any(Tutorial.class));
+    }
+
+    @Test
+    void updateTutorialWithCborETagTest() throws Exception {
+        Tutorial existingTutorial = new Tutorial("Old Title", "Old Description", false);
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(existingTutorial));
+        when(tutorialRepository.save(any(Tutorial.class))).thenReturn(existingTutorial);
+
+        mockMvc.perform(put("/api/tutorials/1")
+                        .header(HttpHeaders.IF_MATCH, "\"0.0-cbor\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Updated Title\",\"description\":\"Updated Description\",\"published\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0.0\""));
+    }
+
+    @Test
+    void patchTutorialTest() throws Exception {
+        Tutorial existingTutorial = new Tutorial("Old Title", "Old Description", false);
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(existingTutorial));
+        when(tutorialRepository.save(any(Tutorial.class))).thenReturn(existingTutorial);
+
+        mockMvc.perform(patch("/api/tutorials/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"published\":true,\"description\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Old Title")))
+                .andExpect(jsonPath("$.description", nullValue()))
+                .andExpect(jsonPath("$.published", is(true)));
+    }
+
+    @Test
+    void patchTutorialWithUnknownMemberTest() throws Exception {
+        Tutorial existingTutorial = new Tutorial("Old Title", "Old Description", false);
+        when(tutorialRepository.findById(1L)).thenReturn(Optional.of(existingTutorial));
+
+        mockMvc.perform(patch("/api/tutorials/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"published\":true,\"id\":7}"))
+                .andExpect(status().isBadRequest());
+        verify(tutorialRepository, never()).save(any(Tutorial.class));
+        assertFalse(existingTutorial.isPublished());
+    }
+
     @Test
     void deleteTutorialTest() throws Exception {
+        when(tutorialBulkService.deleteById(1L)).thenReturn(1);
+
         mockMvc.perform(delete("/api/tutorials/1")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("X-Deleted-Count", "1"));
     }
 
     @Test
     void deleteAllTutorialsTest() throws Exception {
-        doNothing().when(tutorialRepository).deleteAll();
+        when(tutorialBulkService.deleteEverything()).thenReturn(2L);
 
         mockMvc.perform(delete("/api/tutorials")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("X-Deleted-Count", "2"));
+        verify(tutorialRepository, never()).deleteAll();
     }
 
     @Test
     void findByPublishedTest() throws Exception {
-        when(tutorialRepository.findByPublished(true)).thenReturn(Arrays.asList(new Tutorial("Published Title", "Published Description", true)));
+        when(publishedTutorialsView.snapshot()).thenReturn(publishedSnapshot());
 
         mockMvc.perform(get("/api/tutorials/published")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].title", is("Published Title")));
     }
+
+    @Test
+    void findByPublishedGzipTest() throws Exception {
+        when(publishedTutorialsView.snapshot()).thenReturn(publishedSnapshot());
+
+        mockMvc.perform(get("/api/tutorials/published").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-gzip\""))
+                .andExpect(content().bytes(new byte[] { 1, 2, 3 }));
+    }
+
+    @Test
+    void findByPublishedWithAnyAcceptTest() throws Exception {
+        when(publishedTutorialsView.snapshot()).thenReturn(publishedSnapshot());
+
+        mockMvc.perform(get("/api/tutorials/published").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+    }
+
+    @Test
+    void findByPublishedAsSmileTest() throws Exception {
+        Tutorial tutorial = new Tutorial("Published Title", "Published Description", true);
+        when(tutorialRepository.getCollectionVersion()).thenReturn(collectionVersion(1, 1, 1, 0));
+        when(tutorialRepository.findByPublished(true)).thenReturn(List.of(tutorial));
+
+        MvcResult result = mockMvc.perform(get("/api/tutorials/published").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"published.1.1.1.0-smile\""))
+                .andReturn();
+        Tutorial[] tutorials = new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), Tutorial[].class);
+        assertEquals("Published Title", tutorials[0].getTitle());
+        verify(publishedTutorialsView, never()).snapshot();
+    }
+
+    @Test
+    void findByPublishedNotModifiedTest() throws Exception {
+        when(publishedTutorialsView.snapshot()).thenReturn(publishedSnapshot());
+
+        mockMvc.perform(get("/api/tutorials/published").header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private static PublishedTutorialsView.Snapshot publishedSnapshot() {
+        byte[] json = "[{\"id\":1,\"title\":\"Published Title\",\"description\":\"Published Description\",\"published\":true}]"
+                .getBytes(StandardCharsets.UTF_8);
+        return new PublishedTutorialsView.Snapshot(1, json, new byte[] { 1, 2, 3 }, "abc");
+    }
+
+    private static TutorialCollectionVersion collectionVersion(long count, long maxId, long idSum, long versionSum) {
+        return new TutorialCollectionVersion() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public long getMaxId() {
+                return maxId;
+            }
+
+            @Override
+            public long getIdSum() {
+                return idSum;
+            }
+
+            @Override
+            public long getVersionSum() {
+                return versionSum;
+            }
+        };
+    }
 }
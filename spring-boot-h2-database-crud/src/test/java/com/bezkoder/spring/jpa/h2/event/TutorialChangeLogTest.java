@@ -0,0 +1,79 @@
+package com.bezkoder.spring.jpa.h2.event;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangeLog.Change;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TutorialChangeLogTest {
+
+    private TutorialChangeLog log;
+
+    @BeforeEach
+    void setUp() {
+        log = new TutorialChangeLog(3);
+        log.objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    public void whenChangesAppended_thenReadAfterReturnsThemInOrder() throws Exception {
+        log.onTutorialChanged(TutorialChangedEvent.created(tutorial(1L, "Spring")));
+        log.onTutorialChanged(TutorialChangedEvent.updated(tutorial(1L, "Spring Boot"),
+                new TutorialChangedEvent.Previous("Spring", true)));
+        log.onTutorialChanged(TutorialChangedEvent.deleted(1L, new TutorialChangedEvent.Previous("Spring Boot", true)));
+
+        List<Change> changes = log.readAfter(1).orElseThrow();
+
+        assertEquals(List.of(2L, 3L), changes.stream().map(Change::sequence).toList());
+        assertEquals(TutorialChangedEvent.Type.UPDATED, changes.get(0).type());
+        Map<?, ?> data = new ObjectMapper().readValue(changes.get(0).data(), Map.class);
+        assertEquals("UPDATED", data.get("type"));
+        assertEquals("Spring Boot", ((Map<?, ?>) data.get("tutorial")).get("title"));
+        assertFalse(new ObjectMapper().readValue(changes.get(1).data(), Map.class).containsKey("tutorial"));
+        assertTrue(log.readAfter(3).orElseThrow().isEmpty());
+    }
+
+    @Test
+    public void whenPositionEvicted_thenReadAfterIsEmpty() {
+        for (long id = 1; id <= 5; id++) {
+            log.onTutorialChanged(TutorialChangedEvent.deleted(id,
+                    new TutorialChangedEvent.Previous("Tutorial " + id, true)));
+        }
+
+        // Capacity 3 keeps sequences 3..5: resuming after 2 still works, after 1 would skip sequence 2.
+        assertEquals(3, log.readAfter(2).orElseThrow().size());
+        assertTrue(log.readAfter(1).isEmpty());
+        assertTrue(log.readAfter(6).isEmpty());
+    }
+
+    @Test
+    public void whenChangeAppended_thenWaitingReaderWakesUp() throws Exception {
+        assertFalse(log.awaitAfter(0, 10, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return log.awaitAfter(0, 10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        log.onTutorialChanged(TutorialChangedEvent.cleared());
+
+        assertTrue(waiting.get(10, TimeUnit.SECONDS));
+        assertEquals(1, log.getLastSequence());
+    }
+
+    private static Tutorial tutorial(long id, String title) {
+        Tutorial tutorial = new Tutorial(title, "Description", true);
+        tutorial.setId(id);
+        return tutorial;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bezkoder.spring.jpa.h2.search;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TutorialSearchIndexTest {
+
+    private TutorialSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TutorialSearchIndex();
+        index.tutorialRepository = mock(TutorialRepository.class);
+        index.entityManager = mock(EntityManager.class);
+        index.transactionManager = mock(PlatformTransactionManager.class);
+        when(index.tutorialRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(
+                tutorial(1L, "Spring Boot", "Build Java web apps"),
+                tutorial(2L, "Java", "Java language basics"),
+                tutorial(3L, "JavaScript basics", "Browser scripting"),
+                tutorial(4L, "Python", "Scripting with Python")));
+        index.rebuild();
+    }
+
+    @Test
+    public void whenSearch_thenRankTitleMatchesFirst() {
+        assertEquals(List.of(2L, 3L, 1L), index.search("java", 10));
+    }
+
+    @Test
+    public void whenSearchWithLimit_thenReturnBestMatchesOnly() {
+        assertEquals(List.of(2L), index.search("JAVA", 1));
+    }
+
+    @Test
+    public void whenSearchDescription_thenMatchSubstrings() {
+        assertEquals(List.of(3L, 4L), index.search("script", 10));
+    }
+
+    @Test
+    public void whenQueryShorterThanGram_thenNotSupported() {
+        assertFalse(index.supports("ja"));
+        assertTrue(index.supports("jav"));
+    }
+
+    @Test
+    public void whenTutorialChanged_thenIndexFollows() {
+        Tutorial renamed = tutorial(4L, "Kotlin", "JVM language");
+        index.onTutorialChanged(TutorialChangedEvent.updated(renamed,
+                new TutorialChangedEvent.Previous("Python", false)));
+        index.onTutorialChanged(TutorialChangedEvent.deleted(2L, new TutorialChangedEvent.Previous("Java", false)));
+        index.onTutorialChanged(TutorialChangedEvent.created(tutorial(5L, "Java Streams", "Collections")));
+
+        assertTrue(index.search("python", 10).isEmpty());
+        assertEquals(List.of(4L), index.search("kotlin", 10));
+        assertEquals(List.of(3L, 5L, 1L), index.search("java", 10));
+    }
+
+    @Test
+    public void whenCleared_thenRebuiltFromTheDatabase() {
+        // A tutorial created after the bulk delete is still in the table and must stay searchable.
+        when(index.tutorialRepository.streamAllByOrderByIdAsc())
+                .thenReturn(Stream.of(tutorial(5L, "Java Streams", "Collections")));
+
+        index.onTutorialChanged(TutorialChangedEvent.cleared());
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(5L), index.search("java", 10));
+        assertTrue(index.search("python", 10).isEmpty());
+    }
+
+    private static Tutorial tutorial(long id, String title, String description) {
+        Tutorial tutorial = new Tutorial(title, description, false);
+        ReflectionTestUtils.setField(tutorial, "id", id);
+        return tutorial;
+    }
+}
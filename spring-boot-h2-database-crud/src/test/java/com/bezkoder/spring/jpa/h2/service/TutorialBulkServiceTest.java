@@ -0,0 +1,67 @@
+package com.bezkoder.spring.jpa.h2.service;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TutorialBulkServiceTest {
+
+    private TutorialBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TutorialBulkService();
+        service.tutorialRepository = mock(TutorialRepository.class);
+        service.transactionManager = mock(PlatformTransactionManager.class);
+        service.eventPublisher = mock(ApplicationEventPublisher.class);
+        service.deleteChunkSize = 2;
+        when(service.tutorialRepository.findIdsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).thenReturn(List.of(2L));
+        when(service.tutorialRepository.findIdsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    @Test
+    public void whenEverythingDeleted_thenClearedIsPublishedOnce() {
+        when(service.tutorialRepository.deleteInBulkByIdRange(anyLong(), anyLong())).thenReturn(2, 1);
+
+        assertEquals(3, service.deleteEverything());
+
+        verify(service.tutorialRepository).deleteInBulkByIdRange(Long.MIN_VALUE, 2L);
+        verify(service.tutorialRepository).deleteInBulkByIdRange(2L, Long.MAX_VALUE);
+        assertClearedPublished();
+    }
+
+    @Test
+    public void whenALaterRangeFails_thenClearedIsStillPublished() {
+        when(service.tutorialRepository.deleteInBulkByIdRange(anyLong(), anyLong()))
+                .thenReturn(2)
+                .thenThrow(new QueryTimeoutException("timed out"));
+
+        assertThrows(QueryTimeoutException.class, () -> service.deleteEverything());
+
+        // The first range is committed, so read models must still reload.
+        assertClearedPublished();
+    }
+
+    private void assertClearedPublished() {
+        ArgumentCaptor<TutorialChangedEvent> event = ArgumentCaptor.forClass(TutorialChangedEvent.class);
+        verify(service.eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(TutorialChangedEvent.Type.CLEARED, event.getValue().getType());
+    }
+}
@@ -0,0 +1,106 @@
+package com.bezkoder.spring.jpa.h2.view;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PublishedTutorialsViewTest {
+
+    private PublishedTutorialsView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new PublishedTutorialsView();
+        view.tutorialRepository = mock(TutorialRepository.class);
+        view.objectMapper = new ObjectMapper();
+        when(view.tutorialRepository.findByPublished(true)).thenReturn(List.of(
+                tutorial(2L, "Java", true),
+                tutorial(1L, "Spring", true)));
+    }
+
+    @Test
+    public void whenLoaded_thenSnapshotHoldsPublishedTutorialsInIdOrder() throws IOException {
+        PublishedTutorialsView.Snapshot snapshot = view.snapshot();
+
+        assertEquals(2, snapshot.size());
+        List<?> tutorials = new ObjectMapper().readValue(snapshot.getJson(), List.class);
+        assertEquals(2, tutorials.size());
+        assertTrue(json(snapshot).indexOf("Spring") < json(snapshot).indexOf("Java"));
+        assertEquals(json(snapshot), gunzip(snapshot.getGzip()));
+        assertNotEquals(snapshot.getETag(), snapshot.getGzipETag());
+        assertSame(snapshot, view.snapshot());
+    }
+
+    @Test
+    public void whenPublishedFlagChanges_thenViewFollowsWithoutReloading() {
+        String etag = view.snapshot().getETag();
+
+        view.onTutorialChanged(TutorialChangedEvent.updated(tutorial(1L, "Spring", false),
+                new TutorialChangedEvent.Previous("Spring", true)));
+        view.onTutorialChanged(TutorialChangedEvent.created(tutorial(3L, "Kotlin", true)));
+        PublishedTutorialsView.Snapshot snapshot = view.snapshot();
+
+        assertEquals(2, snapshot.size());
+        assertFalse(json(snapshot).contains("Spring"));
+        assertTrue(json(snapshot).contains("Kotlin"));
+        assertNotEquals(etag, snapshot.getETag());
+        verify(view.tutorialRepository, times(1)).findByPublished(true);
+    }
+
+    @Test
+    public void whenUnpublishedTutorialChanges_thenSnapshotIsKept() {
+        PublishedTutorialsView.Snapshot snapshot = view.snapshot();
+
+        view.onTutorialChanged(TutorialChangedEvent.created(tutorial(3L, "Draft", false)));
+        view.onTutorialChanged(TutorialChangedEvent.deleted(3L, new TutorialChangedEvent.Previous("Draft", false)));
+
+        assertSame(snapshot, view.snapshot());
+    }
+
+    @Test
+    public void whenCleared_thenViewIsReloaded() {
+        view.snapshot();
+        when(view.tutorialRepository.findByPublished(true)).thenReturn(List.of(tutorial(3L, "Kotlin", true)));
+
+        view.onTutorialChanged(TutorialChangedEvent.cleared());
+        PublishedTutorialsView.Snapshot snapshot = view.snapshot();
+
+        // Only what the table still holds: here a tutorial created after the bulk delete.
+        assertEquals(1, snapshot.size());
+        assertTrue(json(snapshot).contains("Kotlin"));
+        assertFalse(json(snapshot).contains("Spring"));
+        verify(view.tutorialRepository, times(2)).findByPublished(true);
+    }
+
+    private static String json(PublishedTutorialsView.Snapshot snapshot) {
+        return new String(snapshot.getJson(), StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Tutorial tutorial(long id, String title, boolean published) {
+        Tutorial tutorial = new Tutorial(title, title + " description", published);
+        ReflectionTestUtils.setField(tutorial, "id", id);
+        return tutorial;
+    }
+}
@@ -0,0 +1,154 @@
+package com.bezkoder.spring.jpa.h2.view;
+
+import com.bezkoder.spring.jpa.h2.event.TutorialChangedEvent;
+import com.bezkoder.spring.jpa.h2.model.Tutorial;
+import com.bezkoder.spring.jpa.h2.repository.TutorialFacet;
+import com.bezkoder.spring.jpa.h2.repository.TutorialRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TutorialStatisticsViewTest {
+
+    private TutorialStatisticsView view;
+
+    @BeforeEach
+    void setUp() {
+        view = view(Duration.ofMinutes(10), List.of(
+                facet(true, "S", 1),
+                facet(false, "j", 1),
+                facet(false, "J", 1)));
+    }
+
+    @Test
+    public void whenLoaded_thenCountsAreGroupedByPublishedAndPrefix() {
+        TutorialStatisticsView.Statistics statistics = view.statistics();
+
+        assertEquals(3, statistics.total());
+        assertEquals(1, statistics.published());
+        assertEquals(2, statistics.unpublished());
+        assertEquals(Map.of("J", 2L, "S", 1L), statistics.titlePrefixes());
+        assertSame(statistics, view.statistics());
+    }
+
+    @Test
+    public void whenTutorialsChange_thenCountsFollowWithoutReloading() {
+        view.statistics();
+
+        view.onTutorialChanged(TutorialChangedEvent.updated(tutorial(2L, "Kotlin", true), previous("java", false)));
+        view.onTutorialChanged(TutorialChangedEvent.created(tutorial(4L, "spring data", false)));
+        view.onTutorialChanged(TutorialChangedEvent.deleted(3L, previous("JPA", false)));
+        TutorialStatisticsView.Statistics statistics = view.statistics();
+
+        assertEquals(3, statistics.total());
+        assertEquals(2, statistics.published());
+        assertEquals(1, statistics.unpublished());
+        assertEquals(Map.of("K", 1L, "S", 2L), statistics.titlePrefixes());
+        verify(view.tutorialRepository, times(1)).countFacets(1);
+    }
+
+    @Test
+    public void whenUpdateKeepsTheFacet_thenStatisticsAreKept() {
+        TutorialStatisticsView.Statistics statistics = view.statistics();
+
+        view.onTutorialChanged(TutorialChangedEvent.updated(tutorial(1L, "Spring Boot", true),
+                previous("Spring", true)));
+
+        assertSame(statistics, view.statistics());
+    }
+
+    @Test
+    public void whenUpdateArrivesBeforeItsCreate_thenCountsMatchAFreshSeed() {
+        view.statistics();
+
+        // Both events carry tutorial 4, created unpublished and then published; the update is applied first.
+        view.onTutorialChanged(TutorialChangedEvent.updated(tutorial(4L, "Kotlin", true), previous("Kotlin", false)));
+        // Until the create arrives, the unpublished "K" count is -1.
+        assertEquals(1, view.statistics().unpublished());
+        view.onTutorialChanged(TutorialChangedEvent.created(tutorial(4L, "Kotlin", false)));
+
+        TutorialStatisticsView reseeded = view(Duration.ofMinutes(10), List.of(
+                facet(true, "S", 1),
+                facet(true, "K", 1),
+                facet(false, "j", 1),
+                facet(false, "J", 1)));
+        assertEquals(reseeded.statistics(), view.statistics());
+        assertEquals(Map.of("J", 2L, "K", 1L, "S", 1L), view.statistics().titlePrefixes());
+    }
+
+    @Test
+    public void whenReseedIntervalPassed_thenCountsAreSeededAgain() {
+        view = view(Duration.ZERO, List.of(facet(true, "S", 1)));
+        view.statistics();
+        when(view.tutorialRepository.countFacets(1)).thenReturn(List.of(facet(true, "S", 1), facet(false, "K", 1)));
+
+        assertEquals(2, view.statistics().total());
+        verify(view.tutorialRepository, times(2)).countFacets(1);
+    }
+
+    @Test
+    public void whenChangedBeforeLoading_thenTheSeedAlreadyCountsIt() {
+        view.onTutorialChanged(TutorialChangedEvent.created(tutorial(1L, "Spring", true)));
+
+        assertEquals(3, view.statistics().total());
+    }
+
+    @Test
+    public void whenCleared_thenCountsAreReseeded() {
+        view.statistics();
+        when(view.tutorialRepository.countFacets(1)).thenReturn(List.of(facet(false, "k", 1)));
+
+        view.onTutorialChanged(TutorialChangedEvent.cleared());
+        TutorialStatisticsView.Statistics statistics = view.statistics();
+
+        assertEquals(1, statistics.total());
+        assertEquals(1, statistics.unpublished());
+        assertEquals(Map.of("K", 1L), statistics.titlePrefixes());
+        verify(view.tutorialRepository, times(2)).countFacets(1);
+    }
+
+    private static TutorialStatisticsView view(Duration reseedInterval, List<TutorialFacet> facets) {
+        TutorialStatisticsView view = new TutorialStatisticsView(1, reseedInterval);
+        view.tutorialRepository = mock(TutorialRepository.class);
+        when(view.tutorialRepository.countFacets(1)).thenReturn(facets);
+        return view;
+    }
+
+    private static Tutorial tutorial(long id, String title, boolean published) {
+        Tutorial tutorial = new Tutorial(title, "Description", published);
+        tutorial.setId(id);
+        return tutorial;
+    }
+
+    private static TutorialChangedEvent.Previous previous(String title, boolean published) {
+        return new TutorialChangedEvent.Previous(title, published);
+    }
+
+    private static TutorialFacet facet(boolean published, String titlePrefix, long count) {
+        return new TutorialFacet() {
+            @Override
+            public boolean getPublished() {
+                return published;
+            }
+
+            @Override
+            public String getTitlePrefix() {
+                return titlePrefix;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
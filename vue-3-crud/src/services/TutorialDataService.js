@@ -1,8 +1,8 @@
 import http from "../http-common";
 
 class TutorialDataService {
-  getAll() {
-    return http.get("/tutorials");
+  getAll(fields) {
+    return http.get("/tutorials", { params: { fields } });
   }
 
   get(id) {
@@ -25,8 +25,13 @@ class TutorialDataService {
     return http.delete(`/tutorials`);
   }
 
-  findByTitle(title) {
-    return http.get(`/tutorials?title=${title}`);
+  findByTitle(title, fields) {
+    return http.get("/tutorials", { params: { title, fields } });
+  }
+
+  // Server-sent change events; the browser reconnects on its own and resumes after the last event it saw.
+  changes() {
+    return new EventSource(`${http.defaults.baseURL}/tutorials/changes`);
   }
 }
 